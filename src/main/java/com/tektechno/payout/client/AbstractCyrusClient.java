@@ -0,0 +1,207 @@
+package com.tektechno.payout.client;
+
+import com.tektechno.payout.exceptions.CyrusUnavailableException;
+import com.tektechno.payout.utilities.SingleFlight;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+/**
+ * Builds the multipart form shared by every Cyrus method call, guards every call with the circuit
+ * breaker of its method and the bulkhead of its {@link CyrusCallGroup}, and coalesces identical
+ * concurrent read-only calls through a {@link SingleFlight}. A call first waits for a connection slot
+ * of its group's lane in the {@link CyrusLaneScheduler} and only then asks the breaker and bulkhead
+ * for a permission, so queued calls hold neither and the breaker only times the gateway call itself.
+ * Breakers and bulkheads come from the Resilience4j registries, so their thresholds are configured
+ * under {@code resilience4j.circuitbreaker} and {@code resilience4j.bulkhead}. Only transport errors
+ * and 5xx responses count as breaker failures; 4xx rejections do not. A rejected call fails
+ * immediately with {@link CyrusUnavailableException} instead of waiting on a struggling gateway.
+ * For every read method the {@code cyrus.singleflight.calls} counter is tagged with
+ * {@code outcome=upstream} for calls that reached Cyrus and {@code outcome=joined} for calls that
+ * shared an in-flight request, and {@code cyrus.singleflight.coalescing.ratio} reports the share of
+ * joined calls.
+ */
+public abstract class AbstractCyrusClient implements CyrusClient {
+
+  @Value("${cyrus-api-member-id}")
+  private String cyrusApiMemberId;
+
+  @Value("${cyrus-payout-api-key}")
+  private String cyrusPayoutApiKey;
+
+  @Value("${cyrus-recharge-api-endpoint}")
+  private String cyrusRechargeApiEndpoint;
+
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  @Autowired
+  private CircuitBreakerRegistry circuitBreakerRegistry;
+
+  @Autowired
+  private BulkheadRegistry bulkheadRegistry;
+
+  @Autowired
+  private CyrusLaneScheduler cyrusLaneScheduler;
+
+  private final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+
+  private final Map<String, ReadMeters> readMeters = new ConcurrentHashMap<>();
+
+  private record ReadMeters(Counter upstream, Counter joined) {
+  }
+
+  @PostConstruct
+  protected void registerSingleFlightGauge() {
+    Gauge.builder("cyrus.singleflight.in.flight", singleFlight, SingleFlight::inFlightCount)
+        .register(meterRegistry);
+  }
+
+  /**
+   * Sends the call to Cyrus. Only invoked once the circuit breaker and bulkhead admitted it.
+   */
+  protected abstract CompletableFuture<String> exchange(String path, String methodName, Map<String, String> params);
+
+  /**
+   * Waits for a connection slot in the lane. By default the wait holds no thread and the call continues
+   * on the thread that frees the slot.
+   *
+   * @param lane lane of the call
+   * @return future completed with true once a slot is granted, false when the lane rejected the call
+   */
+  protected CompletableFuture<Boolean> acquireLane(CyrusLane lane) {
+    return cyrusLaneScheduler.acquireAsync(lane);
+  }
+
+  @Override
+  public CompletableFuture<String> post(CyrusCallGroup group, String path, String methodName,
+                                        Map<String, String> params) {
+    CyrusLane lane = group.getLane();
+    return acquireLane(lane).thenCompose(granted -> {
+      if (!granted) {
+        return CompletableFuture.failedFuture(new CyrusUnavailableException(
+            "Payment gateway queue is full, please try again shortly", null));
+      }
+      try {
+        return postAdmitted(group, path, methodName, params);
+      } catch (RuntimeException e) {
+        cyrusLaneScheduler.release(lane);
+        return CompletableFuture.failedFuture(e);
+      }
+    });
+  }
+
+  /**
+   * Runs a call that holds a lane slot through its circuit breaker and bulkhead. The slot is released
+   * once the call completes or is rejected.
+   */
+  private CompletableFuture<String> postAdmitted(CyrusCallGroup group, String path, String methodName,
+                                                 Map<String, String> params) {
+    CyrusLane lane = group.getLane();
+    CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(methodName);
+    Bulkhead bulkhead = bulkheadRegistry.bulkhead(group.getBulkheadName());
+
+    if (!circuitBreaker.tryAcquirePermission()) {
+      cyrusLaneScheduler.release(lane);
+      return CompletableFuture.failedFuture(new CyrusUnavailableException(
+          "Payment gateway is temporarily unavailable, please try again shortly",
+          CallNotPermittedException.createCallNotPermittedException(circuitBreaker)));
+    }
+    if (!bulkhead.tryAcquirePermission()) {
+      circuitBreaker.releasePermission();
+      cyrusLaneScheduler.release(lane);
+      return CompletableFuture.failedFuture(new CyrusUnavailableException(
+          "Too many concurrent payment gateway requests, please try again shortly",
+          BulkheadFullException.createBulkheadFullException(bulkhead)));
+    }
+
+    long start = System.nanoTime();
+    CompletableFuture<String> response;
+    try {
+      response = exchange(path, methodName, params);
+    } catch (RuntimeException e) {
+      response = CompletableFuture.failedFuture(e);
+    }
+    return response.whenComplete((body, error) -> {
+      bulkhead.onComplete();
+      long duration = System.nanoTime() - start;
+      if (error == null || isClientError(error)) {
+        circuitBreaker.onSuccess(duration, TimeUnit.NANOSECONDS);
+      } else {
+        circuitBreaker.onError(duration, TimeUnit.NANOSECONDS, error);
+      }
+      cyrusLaneScheduler.release(lane);
+    });
+  }
+
+  /**
+   * Returns whether Cyrus answered with a 4xx. Such a response is a rejection of that one request by a
+   * healthy gateway, so the breaker records it as a success and only transport errors and 5xx
+   * responses count towards opening it.
+   */
+  static boolean isClientError(Throwable error) {
+    for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+      if (cause instanceof HttpClientErrorException
+          || cause instanceof WebClientResponseException webClientError
+          && webClientError.getStatusCode().is4xxClientError()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public CompletableFuture<String> read(CyrusCallGroup group, String path, String methodName,
+                                        Map<String, String> params) {
+    String key = path + '|' + methodName + '|' + new TreeMap<>(params);
+    SingleFlight.Call<String> call = singleFlight.execute(key, () -> post(group, path, methodName, params));
+
+    ReadMeters meters = readMeters.computeIfAbsent(methodName, this::registerReadMeters);
+    (call.joined() ? meters.joined() : meters.upstream()).increment();
+    return call.future();
+  }
+
+  private ReadMeters registerReadMeters(String methodName) {
+    Counter upstream = Counter.builder("cyrus.singleflight.calls")
+        .tag("method", methodName).tag("outcome", "upstream").register(meterRegistry);
+    Counter joined = Counter.builder("cyrus.singleflight.calls")
+        .tag("method", methodName).tag("outcome", "joined").register(meterRegistry);
+    Gauge.builder("cyrus.singleflight.coalescing.ratio", () -> {
+      double total = upstream.count() + joined.count();
+      return total == 0 ? 0 : joined.count() / total;
+    }).tag("method", methodName).register(meterRegistry);
+    return new ReadMeters(upstream, joined);
+  }
+
+  protected String url(String path) {
+    return cyrusRechargeApiEndpoint + path;
+  }
+
+  protected MultiValueMap<String, String> formData(String methodName, Map<String, String> params) {
+    MultiValueMap<String, String> formData = new LinkedMultiValueMap<>();
+    formData.add("MerchantID", cyrusApiMemberId);
+    formData.add("MerchantKey", cyrusPayoutApiKey);
+    formData.add("MethodName", methodName);
+    params.forEach((key, value) -> formData.add(key, value != null ? value : ""));
+    return formData;
+  }
+
+}
@@ -0,0 +1,52 @@
+package com.tektechno.payout.client;
+
+/**
+ * Groups of Cyrus calls that get their own bulkhead, so a slow or saturated group cannot take the
+ * concurrency budget of the others. Every group runs in a {@link CyrusLane} of the
+ * {@link CyrusLaneScheduler}.
+ */
+public enum CyrusCallGroup {
+
+  /**
+   * Interactive single payouts.
+   */
+  SEND_MONEY("cyrus-send-money", CyrusLane.INTERACTIVE),
+
+  /**
+   * Rows of bulk payouts, including their status checks.
+   */
+  BULK("cyrus-bulk", CyrusLane.BULK),
+
+  /**
+   * Interactive order status checks.
+   */
+  STATUS("cyrus-status", CyrusLane.INTERACTIVE),
+
+  /**
+   * Batch order status checks.
+   */
+  RECONCILIATION("cyrus-reconciliation", CyrusLane.RECONCILIATION),
+
+  /**
+   * Beneficiary management and reference lists.
+   */
+  REFERENCE("cyrus-reference", CyrusLane.REFERENCE);
+
+  private final String bulkheadName;
+
+  private final CyrusLane lane;
+
+  CyrusCallGroup(String bulkheadName, CyrusLane lane) {
+    this.bulkheadName = bulkheadName;
+    this.lane = lane;
+  }
+
+  public String getBulkheadName() {
+    return bulkheadName;
+  }
+
+  public CyrusLane getLane() {
+    return lane;
+  }
+
+}
@@ -0,0 +1,62 @@
+package com.tektechno.payout.client;
+
+import com.tektechno.payout.exceptions.CyrusUnavailableException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Client for the Cyrus payout APIs. Every Cyrus call is a multipart form POST carrying the merchant
+ * credentials and a {@code MethodName}; implementations add the credentials and return the raw
+ * response body.
+ * The blocking implementation completes the future on the calling thread, the reactive one
+ * completes it from a Reactor Netty event loop without holding a thread while the call is in flight.
+ * Every call passes the circuit breaker of its method and the bulkhead of its {@link CyrusCallGroup}
+ * first and fails with {@link CyrusUnavailableException} when either rejects it.
+ */
+public interface CyrusClient {
+
+  /**
+   * Posts a Cyrus method call.
+   *
+   * @param group      call group whose bulkhead the call runs in
+   * @param path       API path relative to the Cyrus endpoint, see {@code CyrusApiConstant}
+   * @param methodName Cyrus {@code MethodName}
+   * @param params     method parameters, in the order they are sent
+   * @return future completed with the raw response body
+   */
+  CompletableFuture<String> post(CyrusCallGroup group, String path, String methodName, Map<String, String> params);
+
+  /**
+   * Posts a read-only Cyrus method call. Concurrent calls with the same path, method and parameters
+   * share one upstream request and its result. Never use this for calls with side effects.
+   *
+   * @param group      call group whose bulkhead the call runs in
+   * @param path       API path relative to the Cyrus endpoint, see {@code CyrusApiConstant}
+   * @param methodName Cyrus {@code MethodName}
+   * @param params     method parameters
+   * @return future completed with the raw response body
+   */
+  CompletableFuture<String> read(CyrusCallGroup group, String path, String methodName, Map<String, String> params);
+
+  /**
+   * Posts a Cyrus method call and waits for the response body.
+   *
+   * @param group      call group whose bulkhead the call runs in
+   * @param path       API path relative to the Cyrus endpoint, see {@code CyrusApiConstant}
+   * @param methodName Cyrus {@code MethodName}
+   * @param params     method parameters, in the order they are sent
+   * @return raw response body
+   */
+  default String postAndWait(CyrusCallGroup group, String path, String methodName, Map<String, String> params) {
+    try {
+      return post(group, path, methodName, params).join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw e;
+    }
+  }
+
+}
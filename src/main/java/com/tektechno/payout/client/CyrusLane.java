@@ -0,0 +1,53 @@
+package com.tektechno.payout.client;
+
+/**
+ * Execution lanes of outbound Cyrus traffic. Each lane has its own concurrency quota and weight in
+ * {@link CyrusLaneScheduler}, configured under {@code cyrus.lanes.<property-key>}.
+ */
+public enum CyrusLane {
+
+  /**
+   * Calls a user is waiting on: single payouts and their status checks.
+   */
+  INTERACTIVE("interactive", 20, 8),
+
+  /**
+   * Rows of bulk payout jobs.
+   */
+  BULK("bulk", 16, 3),
+
+  /**
+   * Batch status checks run by reconciliation.
+   */
+  RECONCILIATION("reconciliation", 12, 2),
+
+  /**
+   * Beneficiary management and reference lists.
+   */
+  REFERENCE("reference", 6, 1);
+
+  private final String propertyKey;
+
+  private final int defaultMaxConcurrency;
+
+  private final int defaultWeight;
+
+  CyrusLane(String propertyKey, int defaultMaxConcurrency, int defaultWeight) {
+    this.propertyKey = propertyKey;
+    this.defaultMaxConcurrency = defaultMaxConcurrency;
+    this.defaultWeight = defaultWeight;
+  }
+
+  public String getPropertyKey() {
+    return propertyKey;
+  }
+
+  public int getDefaultMaxConcurrency() {
+    return defaultMaxConcurrency;
+  }
+
+  public int getDefaultWeight() {
+    return defaultWeight;
+  }
+
+}
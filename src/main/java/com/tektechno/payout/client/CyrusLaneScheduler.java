@@ -0,0 +1,340 @@
+package com.tektechno.payout.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * Admits Cyrus calls into a shared pool of {@code cyrus.lanes.max-connections} connection slots.
+ * Every {@link CyrusLane} may hold at most its own {@code max-concurrency} slots; calls beyond that
+ * wait in the lane's FIFO queue. When a slot frees up it goes to the waiting lanes in smooth weighted
+ * round-robin order by lane {@code weight}, so under contention interactive calls get most of the
+ * freed slots while bulk and reconciliation traffic still make progress.
+ * A queued call either waits on its own thread ({@link #acquire(CyrusLane)}) or, for callers that must
+ * not hold a thread while queued, gets a future completed once a slot is granted
+ * ({@link #acquireAsync(CyrusLane)}); both wait in the same queues.
+ * A call that cannot get a slot within {@code cyrus.lanes.max-wait-ms}, or finds its lane queue full,
+ * is rejected. Queue time per lane is published as {@code cyrus.lane.queue.time}, along with the
+ * {@code cyrus.lane.queue.depth} and {@code cyrus.lane.in.flight} gauges.
+ */
+@Component
+public class CyrusLaneScheduler {
+
+  private static final Logger logger = LoggerFactory.getLogger(CyrusLaneScheduler.class);
+
+  @Value("${cyrus.lanes.max-connections:40}")
+  private int maxConnections;
+
+  @Value("${cyrus.lanes.max-wait-ms:10000}")
+  private long maxWaitMillis;
+
+  @Value("${cyrus.lanes.max-queue-size:10000}")
+  private int maxQueueSize;
+
+  @Autowired
+  private Environment environment;
+
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  private final ReentrantLock lock = new ReentrantLock();
+
+  private final Map<CyrusLane, LaneState> lanes = new EnumMap<>(CyrusLane.class);
+
+  private int inFlight;
+
+  private final ThreadLocal<ArrayDeque<Waiter>> completing = new ThreadLocal<>();
+
+  private static final class Waiter {
+
+    private final LaneState state;
+
+    private final long enqueuedNanos = System.nanoTime();
+
+    private final CompletableFuture<Boolean> granted = new CompletableFuture<>();
+
+    private boolean admitted;
+
+    private Waiter(LaneState state) {
+      this.state = state;
+    }
+  }
+
+  private static final class LaneState {
+
+    private final CyrusLane lane;
+
+    private final int maxConcurrency;
+
+    private final int weight;
+
+    private final ArrayDeque<Waiter> waiters = new ArrayDeque<>();
+
+    private int inFlight;
+
+    private int currentWeight;
+
+    private Timer queueTime;
+
+    private Counter rejected;
+
+    private LaneState(CyrusLane lane, int maxConcurrency, int weight) {
+      this.lane = lane;
+      this.maxConcurrency = maxConcurrency;
+      this.weight = weight;
+    }
+  }
+
+  @PostConstruct
+  public void init() {
+    for (CyrusLane lane : CyrusLane.values()) {
+      String prefix = "cyrus.lanes." + lane.getPropertyKey();
+      LaneState state = new LaneState(lane,
+          Math.max(1, environment.getProperty(prefix + ".max-concurrency", Integer.class,
+              lane.getDefaultMaxConcurrency())),
+          Math.max(1, environment.getProperty(prefix + ".weight", Integer.class, lane.getDefaultWeight())));
+      state.queueTime = Timer.builder("cyrus.lane.queue.time")
+          .tag("lane", lane.getPropertyKey())
+          .publishPercentiles(0.5, 0.99)
+          .register(meterRegistry);
+      state.rejected = Counter.builder("cyrus.lane.rejected")
+          .tag("lane", lane.getPropertyKey())
+          .register(meterRegistry);
+      Gauge.builder("cyrus.lane.queue.depth", this, scheduler -> scheduler.queueDepth(lane))
+          .tag("lane", lane.getPropertyKey()).register(meterRegistry);
+      Gauge.builder("cyrus.lane.in.flight", this, scheduler -> scheduler.inFlight(lane))
+          .tag("lane", lane.getPropertyKey()).register(meterRegistry);
+      lanes.put(lane, state);
+    }
+    logger.info("Cyrus lanes configured with {} connection slot(s): {}", maxConnections, snapshot());
+  }
+
+  /**
+   * Waits on the calling thread for a connection slot in the given lane. Every successful call must be
+   * paired with {@link #release(CyrusLane)}.
+   *
+   * @param lane lane of the call
+   * @return true when a slot was granted, false when the lane queue is full or the wait timed out
+   */
+  public boolean acquire(CyrusLane lane) {
+    Waiter waiter = enqueue(lane);
+    if (waiter == null) {
+      return false;
+    }
+    try {
+      return waiter.granted.get(maxWaitMillis, TimeUnit.MILLISECONDS);
+    } catch (TimeoutException | ExecutionException e) {
+      return !abandon(waiter);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      if (!abandon(waiter)) {
+        release(lane);
+      }
+      return false;
+    }
+  }
+
+  /**
+   * Queues for a connection slot in the given lane without holding a thread. The future completes on
+   * the thread that frees the slot, or on the calling thread when a slot is free right away. Every
+   * future completed with true must be paired with {@link #release(CyrusLane)}.
+   *
+   * @param lane lane of the call
+   * @return future completed with true when a slot was granted, false when the lane queue is full or
+   *     the wait timed out
+   */
+  public CompletableFuture<Boolean> acquireAsync(CyrusLane lane) {
+    Waiter waiter = enqueue(lane);
+    if (waiter == null) {
+      return CompletableFuture.completedFuture(false);
+    }
+    if (!waiter.granted.isDone()) {
+      CompletableFuture.delayedExecutor(maxWaitMillis, TimeUnit.MILLISECONDS).execute(() -> abandon(waiter));
+    }
+    return waiter.granted;
+  }
+
+  /**
+   * Returns a slot granted by {@link #acquire(CyrusLane)} or {@link #acquireAsync(CyrusLane)}.
+   *
+   * @param lane lane of the call
+   */
+  public void release(CyrusLane lane) {
+    List<Waiter> granted = new ArrayList<>();
+    lock.lock();
+    try {
+      lanes.get(lane).inFlight--;
+      inFlight--;
+      grantSlots(granted);
+    } finally {
+      lock.unlock();
+    }
+    complete(granted);
+  }
+
+  /**
+   * Returns the quota, weight, queue depth and in-flight count of every lane.
+   *
+   * @return @{@link Map}
+   */
+  public Map<String, Map<String, Object>> snapshot() {
+    Map<String, Map<String, Object>> snapshot = new LinkedHashMap<>();
+    lock.lock();
+    try {
+      for (LaneState state : lanes.values()) {
+        Map<String, Object> laneState = new LinkedHashMap<>();
+        laneState.put("maxConcurrency", state.maxConcurrency);
+        laneState.put("weight", state.weight);
+        laneState.put("inFlight", state.inFlight);
+        laneState.put("queued", state.waiters.size());
+        snapshot.put(state.lane.getPropertyKey(), laneState);
+      }
+    } finally {
+      lock.unlock();
+    }
+    return snapshot;
+  }
+
+  private int queueDepth(CyrusLane lane) {
+    lock.lock();
+    try {
+      return lanes.get(lane).waiters.size();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private int inFlight(CyrusLane lane) {
+    lock.lock();
+    try {
+      return lanes.get(lane).inFlight;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Queues a waiter in the lane and hands out any free slots.
+   *
+   * @return the waiter, or null when the lane queue is full
+   */
+  private Waiter enqueue(CyrusLane lane) {
+    LaneState state = lanes.get(lane);
+    List<Waiter> granted = new ArrayList<>();
+    Waiter waiter = new Waiter(state);
+    lock.lock();
+    try {
+      if (state.waiters.size() >= maxQueueSize) {
+        state.rejected.increment();
+        return null;
+      }
+      state.waiters.addLast(waiter);
+      grantSlots(granted);
+    } finally {
+      lock.unlock();
+    }
+    complete(granted);
+    return waiter;
+  }
+
+  /**
+   * Takes a waiter that gave up out of its queue.
+   *
+   * @return false when the waiter was granted a slot in the meantime and now holds it
+   */
+  private boolean abandon(Waiter waiter) {
+    lock.lock();
+    try {
+      if (waiter.admitted) {
+        return false;
+      }
+      waiter.state.waiters.remove(waiter);
+      waiter.state.rejected.increment();
+    } finally {
+      lock.unlock();
+    }
+    waiter.granted.complete(false);
+    return true;
+  }
+
+  /**
+   * Completes the futures of granted waiters outside {@link #lock}. A grant whose future was already
+   * completed elsewhere is returned. Completing a future runs the caller's continuation, which may free
+   * a slot and grant the next waiter on the same thread; those grants are queued and completed by the
+   * outermost call, so a run of calls that fail right away cannot grow the stack.
+   */
+  private void complete(List<Waiter> granted) {
+    if (granted.isEmpty()) {
+      return;
+    }
+    ArrayDeque<Waiter> pending = completing.get();
+    if (pending != null) {
+      pending.addAll(granted);
+      return;
+    }
+    pending = new ArrayDeque<>(granted);
+    completing.set(pending);
+    try {
+      Waiter waiter;
+      while ((waiter = pending.pollFirst()) != null) {
+        if (!waiter.granted.complete(true)) {
+          release(waiter.state.lane);
+        }
+      }
+    } finally {
+      completing.remove();
+    }
+  }
+
+  /**
+   * Hands free slots to waiting lanes in smooth weighted round-robin order and collects the granted
+   * waiters. Must hold {@link #lock}.
+   */
+  private void grantSlots(List<Waiter> granted) {
+    while (inFlight < maxConnections) {
+      LaneState selected = null;
+      int eligibleWeight = 0;
+      for (LaneState state : lanes.values()) {
+        if (state.waiters.isEmpty() || state.inFlight >= state.maxConcurrency) {
+          continue;
+        }
+        state.currentWeight += state.weight;
+        eligibleWeight += state.weight;
+        if (selected == null || state.currentWeight > selected.currentWeight) {
+          selected = state;
+        }
+      }
+      if (selected == null) {
+        return;
+      }
+      selected.currentWeight -= eligibleWeight;
+
+      Waiter waiter = selected.waiters.pollFirst();
+      waiter.admitted = true;
+      selected.inFlight++;
+      inFlight++;
+      selected.queueTime.record(System.nanoTime() - waiter.enqueuedNanos, TimeUnit.NANOSECONDS);
+      granted.add(waiter);
+    }
+  }
+
+}
@@ -0,0 +1,211 @@
+package com.tektechno.payout.client;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tektechno.payout.constant.CyrusApiConstant;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+/**
+ * In-memory cache for the near-static Cyrus reference lists ({@code BENE_TYPE} and {@code PAY_REASON}).
+ * Entries are loaded when the application is ready and refreshed ahead of expiry by a background job,
+ * so requests are normally answered from memory without waiting on Cyrus. A failed refresh keeps the
+ * last good value in service; it is only dropped when it is replaced by a newer one. A response is only
+ * accepted when its {@code statuscode} is one of {@code cyrus.reference-data.success-status-codes} and
+ * it carries non-empty {@code data}, so a Cyrus error payload never replaces a good entry.
+ * Every entry carries a strong ETag derived from the response body so clients can revalidate with
+ * {@code If-None-Match}.
+ */
+@Component
+public class CyrusReferenceDataCache {
+
+  public static final String BENE_TYPE = "BENE_TYPE";
+
+  public static final String PAY_REASON = "PAY_REASON";
+
+  private static final List<String> METHODS = List.of(BENE_TYPE, PAY_REASON);
+
+  private static final Logger logger = LoggerFactory.getLogger(CyrusReferenceDataCache.class);
+
+  /**
+   * A cached reference list.
+   *
+   * @param value          parsed Cyrus response
+   * @param etag           quoted strong entity tag of the response body
+   * @param loadedAtMillis when the value was fetched from Cyrus
+   */
+  public record Entry(JsonNode value, String etag, long loadedAtMillis) {
+
+    /**
+     * Returns true when an {@code If-None-Match} header lists this entry's tag (or {@code *}).
+     */
+    public boolean matches(String ifNoneMatch) {
+      if (ifNoneMatch == null) {
+        return false;
+      }
+      for (String tag : ifNoneMatch.split(",")) {
+        String candidate = tag.trim();
+        if (candidate.startsWith("W/")) {
+          candidate = candidate.substring(2);
+        }
+        if (candidate.equals("*") || candidate.equals(etag)) {
+          return true;
+        }
+      }
+      return false;
+    }
+  }
+
+  @Value("${cyrus.reference-data.ttl-seconds:3600}")
+  private long ttlSeconds;
+
+  @Value("${cyrus.reference-data.refresh-ahead-seconds:600}")
+  private long refreshAheadSeconds;
+
+  @Value("${cyrus.reference-data.client-max-age-seconds:300}")
+  private long clientMaxAgeSeconds;
+
+  @Value("${cyrus.reference-data.success-status-codes:TXN}")
+  private Set<String> successStatusCodes;
+
+  @Autowired
+  private CyrusClient cyrusClient;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+  private final Map<String, CompletableFuture<Entry>> refreshes = new ConcurrentHashMap<>();
+
+  private Counter refreshFailures;
+
+  @PostConstruct
+  public void registerMetrics() {
+    refreshFailures = meterRegistry.counter("cyrus.reference.data.refresh.failures");
+    for (String methodName : METHODS) {
+      Gauge.builder("cyrus.reference.data.age.seconds", entries, cached -> {
+        Entry entry = cached.get(methodName);
+        return entry == null ? Double.NaN : (System.currentTimeMillis() - entry.loadedAtMillis()) / 1000.0;
+      }).tag("method", methodName).register(meterRegistry);
+    }
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void prewarm() {
+    METHODS.forEach(this::refresh);
+  }
+
+  /**
+   * Refreshes every entry that is missing or within the refresh-ahead window of its expiry.
+   */
+  @Scheduled(fixedDelayString = "${cyrus.reference-data.check-interval-ms:60000}",
+      initialDelayString = "${cyrus.reference-data.check-interval-ms:60000}")
+  public void refreshDueEntries() {
+    long refreshAfterMillis = Math.max(0, ttlSeconds - refreshAheadSeconds) * 1000;
+    for (String methodName : METHODS) {
+      Entry entry = entries.get(methodName);
+      if (entry == null || System.currentTimeMillis() - entry.loadedAtMillis() >= refreshAfterMillis) {
+        refresh(methodName);
+      }
+    }
+  }
+
+  /**
+   * Returns the cached list, loading it from Cyrus only when it has never been loaded. An expired entry
+   * is still returned while a refresh runs in the background.
+   *
+   * @param methodName {@link #BENE_TYPE} or {@link #PAY_REASON}
+   * @return future completed with the cached entry
+   */
+  public CompletableFuture<Entry> get(String methodName) {
+    Entry entry = entries.get(methodName);
+    if (entry == null) {
+      return refresh(methodName);
+    }
+    if (System.currentTimeMillis() - entry.loadedAtMillis() >= ttlSeconds * 1000) {
+      refresh(methodName);
+    }
+    return CompletableFuture.completedFuture(entry);
+  }
+
+  public long getClientMaxAgeSeconds() {
+    return clientMaxAgeSeconds;
+  }
+
+  private CompletableFuture<Entry> refresh(String methodName) {
+    CompletableFuture<Entry> promise = new CompletableFuture<>();
+    CompletableFuture<Entry> running = refreshes.putIfAbsent(methodName, promise);
+    if (running != null) {
+      return running;
+    }
+
+    cyrusClient.read(CyrusCallGroup.REFERENCE, CyrusApiConstant.ADD_BENEFICIARY_URL, methodName, Map.of())
+        .thenApply(body -> toEntry(methodName, body))
+        .whenComplete((loaded, error) -> {
+          refreshes.remove(methodName, promise);
+          if (error == null) {
+            entries.put(methodName, loaded);
+            logger.info("Cyrus {} reference data refreshed. ETag: {}", methodName, loaded.etag());
+            promise.complete(loaded);
+            return;
+          }
+
+          refreshFailures.increment();
+          Entry lastGood = entries.get(methodName);
+          if (lastGood != null) {
+            logger.warn("Cyrus {} refresh failed, serving value loaded at {}. Error: {}",
+                methodName, lastGood.loadedAtMillis(), error.getMessage());
+            promise.complete(lastGood);
+          } else {
+            logger.error("Cyrus {} reference data could not be loaded", methodName, error);
+            promise.completeExceptionally(error);
+          }
+        });
+    return promise;
+  }
+
+  private Entry toEntry(String methodName, String body) {
+    try {
+      JsonNode value = objectMapper.readTree(body);
+      if (value == null || value.isMissingNode() || value.isNull()) {
+        throw new IllegalStateException("Empty Cyrus " + methodName + " response");
+      }
+      String statusCode = value.path("statuscode").asText("");
+      if (!successStatusCodes.contains(statusCode)) {
+        throw new IllegalStateException("Cyrus " + methodName + " returned statuscode " + statusCode
+            + ": " + value.path("status").asText(""));
+      }
+      JsonNode data = value.path("data");
+      if (!data.isContainerNode() || data.isEmpty()) {
+        throw new IllegalStateException("Cyrus " + methodName + " response has no data");
+      }
+      String etag = '"' + DigestUtils.md5DigestAsHex(body.getBytes(StandardCharsets.UTF_8)) + '"';
+      return new Entry(value, etag, System.currentTimeMillis());
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Unreadable Cyrus " + methodName + " response: " + e.getOriginalMessage(), e);
+    }
+  }
+
+}
@@ -0,0 +1,54 @@
+package com.tektechno.payout.client;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Blocking {@link CyrusClient} on the shared {@link RestTemplate}. The call, including its wait for a
+ * lane slot, runs on the calling thread and the returned future is already complete.
+ */
+@Component
+@ConditionalOnProperty(name = "cyrus.client.mode", havingValue = "blocking", matchIfMissing = true)
+public class RestTemplateCyrusClient extends AbstractCyrusClient {
+
+  @Autowired
+  private RestTemplate restTemplate;
+
+  @Autowired
+  private CyrusLaneScheduler cyrusLaneScheduler;
+
+  /**
+   * Waits for the lane slot on the calling thread, so the call never continues on the thread of
+   * another request that freed the slot.
+   */
+  @Override
+  protected CompletableFuture<Boolean> acquireLane(CyrusLane lane) {
+    return CompletableFuture.completedFuture(cyrusLaneScheduler.acquire(lane));
+  }
+
+  @Override
+  protected CompletableFuture<String> exchange(String path, String methodName, Map<String, String> params) {
+    try {
+      MultiValueMap<String, String> formData = formData(methodName, params);
+      HttpHeaders headers = new HttpHeaders();
+      headers.setContentType(MediaType.MULTIPART_FORM_DATA);
+      HttpEntity<MultiValueMap<String, String>> requestEntity = new HttpEntity<>(formData, headers);
+
+      ResponseEntity<String> response = restTemplate.exchange(url(path), HttpMethod.POST, requestEntity, String.class);
+      return CompletableFuture.completedFuture(response.getBody());
+    } catch (RuntimeException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+}
@@ -0,0 +1,206 @@
+package com.tektechno.payout.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tektechno.payout.constant.CyrusApiConstant;
+import com.tektechno.payout.dto.response.SendMoneyResponseDto;
+import com.tektechno.payout.exceptions.CyrusUnavailableException;
+import com.tektechno.payout.utilities.AdaptiveConcurrencyLimiter;
+import com.tektechno.payout.utilities.StringUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.UnknownHostException;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+/**
+ * Sends a Cyrus {@code sendmoney} call with retries that cannot pay twice.
+ * Every attempt reuses the caller's {@code orderId}. Failures are classified before retrying:
+ * <ul>
+ *   <li>the request never reached Cyrus (connection refused, open breaker, full bulkhead): resend;</li>
+ *   <li>Cyrus rejected it (4xx): give up. Nothing was paid, unless an earlier attempt of the payout had
+ *   an unknown outcome: the rejection may then be Cyrus refusing the reused {@code orderId}, so the
+ *   payout is reported {@link Outcome#UNKNOWN} instead of {@link Outcome#FAILED};</li>
+ *   <li>the outcome is unknown (timeout, 5xx, dropped connection): ask {@code checkstatus} first and
+ *   only resend when Cyrus does not know the order. When the status cannot be read either, stop and
+ *   report {@link Outcome#UNKNOWN} so the payout is left for the callback or reconciliation.</li>
+ * </ul>
+ * Retries back off exponentially with full jitter and stop once the next attempt would not fit in the
+ * caller's time budget.
+ */
+@Component
+public class SendMoneyRetryExecutor {
+
+  /**
+   * Final outcome of a payout.
+   */
+  public enum Outcome {
+    ACCEPTED,
+    FAILED,
+    UNKNOWN
+  }
+
+  /**
+   * @param outcome  final outcome
+   * @param response Cyrus response for {@link Outcome#ACCEPTED}, from {@code sendmoney} or {@code checkstatus}
+   * @param error    last failure, null for {@link Outcome#ACCEPTED}
+   * @param attempts number of {@code sendmoney} calls made
+   */
+  public record Result(Outcome outcome, SendMoneyResponseDto response, RuntimeException error, int attempts) {
+  }
+
+  enum Failure {
+    NOT_SENT,
+    REJECTED,
+    AMBIGUOUS
+  }
+
+  private static final Logger logger = LoggerFactory.getLogger(SendMoneyRetryExecutor.class);
+
+  @Value("${payout.retry.max-attempts:3}")
+  private int maxAttempts;
+
+  @Value("${payout.retry.base-backoff-ms:200}")
+  private long baseBackoffMillis;
+
+  @Value("${payout.retry.max-backoff-ms:2000}")
+  private long maxBackoffMillis;
+
+  @Value("${payout.retry.min-attempt-budget-ms:5000}")
+  private long minAttemptBudgetMillis;
+
+  @Autowired
+  private CyrusClient cyrusClient;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  /**
+   * Sends the payout, retrying within the budget. The limiter permit is held for every attempt,
+   * including resends and their backoff, and is reported as a success only when the first attempt
+   * succeeded, and as dropped once the payout ends after any failed attempt.
+   *
+   * @param group        bulkhead group of the calls
+   * @param orderId      order id carried in {@code formData}, reused by every attempt
+   * @param formData     {@code sendmoney} parameters
+   * @param budgetMillis total time allowed, including backoff
+   * @param permit       limiter permit that admitted the payout
+   * @return @{@link Result}
+   */
+  public Result send(CyrusCallGroup group, String orderId, Map<String, String> formData, long budgetMillis,
+                     AdaptiveConcurrencyLimiter.Permit permit) {
+    try {
+      return sendWithRetries(group, orderId, formData, budgetMillis, permit);
+    } finally {
+      permit.dropped();
+    }
+  }
+
+  private Result sendWithRetries(CyrusCallGroup group, String orderId, Map<String, String> formData,
+                                 long budgetMillis, AdaptiveConcurrencyLimiter.Permit permit) {
+    long deadline = System.currentTimeMillis() + budgetMillis;
+    boolean ambiguous = false;
+    RuntimeException lastError;
+    int attempt = 0;
+
+    while (true) {
+      attempt++;
+      try {
+        String body = cyrusClient.postAndWait(group, CyrusApiConstant.SEND_MONEY_URL, "sendmoney", formData);
+        if (attempt == 1) {
+          permit.success();
+        }
+        return record(new Result(Outcome.ACCEPTED, readResponse(body), null, attempt));
+      } catch (RuntimeException e) {
+        lastError = e;
+      }
+
+      Failure failure = classify(lastError);
+      logger.warn("sendmoney attempt {} for orderId {} failed ({}): {}", attempt, orderId, failure,
+          lastError.getMessage());
+      if (failure == Failure.REJECTED) {
+        return record(new Result(ambiguous ? Outcome.UNKNOWN : Outcome.FAILED, null, lastError, attempt));
+      }
+      if (failure == Failure.AMBIGUOUS) {
+        ambiguous = true;
+        SendMoneyResponseDto known;
+        try {
+          known = checkStatus(group == CyrusCallGroup.BULK ? CyrusCallGroup.BULK : CyrusCallGroup.STATUS,
+              orderId);
+        } catch (RuntimeException e) {
+          logger.error("checkstatus for orderId {} failed after an ambiguous sendmoney failure, leaving it pending",
+              orderId, e);
+          return record(new Result(Outcome.UNKNOWN, null, lastError, attempt));
+        }
+        if (known != null) {
+          logger.info("orderId {} was accepted by Cyrus despite the failed response", orderId);
+          return record(new Result(Outcome.ACCEPTED, known, null, attempt));
+        }
+      }
+
+      long backoff = ThreadLocalRandom.current().nextLong(
+          Math.min(maxBackoffMillis, baseBackoffMillis << Math.min(attempt - 1, 20)) + 1);
+      if (attempt >= maxAttempts || System.currentTimeMillis() + backoff + minAttemptBudgetMillis > deadline) {
+        return record(new Result(ambiguous ? Outcome.UNKNOWN : Outcome.FAILED, null, lastError, attempt));
+      }
+      try {
+        Thread.sleep(backoff);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return record(new Result(ambiguous ? Outcome.UNKNOWN : Outcome.FAILED, null, lastError, attempt));
+      }
+    }
+  }
+
+  /**
+   * Returns the order as known to Cyrus, or null when Cyrus has no order with the id.
+   */
+  private SendMoneyResponseDto checkStatus(CyrusCallGroup group, String orderId) {
+    String body = cyrusClient.read(group, CyrusApiConstant.SEND_MONEY_URL, "checkstatus",
+        Map.of("orderId", orderId)).join();
+    SendMoneyResponseDto status = readResponse(body);
+    return status.getData() != null && StringUtils.isNotNullAndNotEmpty(status.getData().getOrderId())
+        ? status : null;
+  }
+
+  static Failure classify(Throwable error) {
+    for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+      if (cause instanceof CyrusUnavailableException
+          || cause instanceof ConnectException
+          || cause instanceof UnknownHostException) {
+        return Failure.NOT_SENT;
+      }
+      if (cause instanceof HttpClientErrorException
+          || cause instanceof WebClientResponseException webClientError
+          && webClientError.getStatusCode().is4xxClientError()) {
+        return Failure.REJECTED;
+      }
+    }
+    return Failure.AMBIGUOUS;
+  }
+
+  private SendMoneyResponseDto readResponse(String body) {
+    try {
+      return objectMapper.readValue(body, SendMoneyResponseDto.class);
+    } catch (IOException e) {
+      throw new IllegalStateException("Unreadable Cyrus response: " + e.getMessage(), e);
+    }
+  }
+
+  private Result record(Result result) {
+    meterRegistry.counter("payout.send.money.outcomes", "outcome", result.outcome().name(),
+        "retried", String.valueOf(result.attempts() > 1)).increment();
+    return result;
+  }
+
+}
@@ -0,0 +1,55 @@
+package com.tektechno.payout.client;
+
+import io.netty.channel.ChannelOption;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+
+/**
+ * Non-blocking {@link CyrusClient} on WebClient and Reactor Netty. No thread is held while a call waits
+ * for a lane slot or is in flight; the returned future completes on a Netty event loop, so callers must
+ * not run blocking work (JDBC, file I/O) in its non-async continuations.
+ */
+@Component
+@ConditionalOnProperty(name = "cyrus.client.mode", havingValue = "reactive")
+public class WebClientCyrusClient extends AbstractCyrusClient {
+
+  @Value("${cyrus.http.connect-timeout-ms:5000}")
+  private int connectTimeoutMillis;
+
+  @Value("${cyrus.http.read-timeout-ms:30000}")
+  private long readTimeoutMillis;
+
+  @Autowired
+  private WebClient.Builder webClientBuilder;
+
+  private WebClient webClient;
+
+  @PostConstruct
+  protected void init() {
+    HttpClient httpClient = HttpClient.create()
+        .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMillis)
+        .responseTimeout(Duration.ofMillis(readTimeoutMillis));
+    webClient = webClientBuilder.clientConnector(new ReactorClientHttpConnector(httpClient)).build();
+  }
+
+  @Override
+  protected CompletableFuture<String> exchange(String path, String methodName, Map<String, String> params) {
+    return webClient.post()
+        .uri(url(path))
+        .body(BodyInserters.fromMultipartData(formData(methodName, params)))
+        .retrieve()
+        .bodyToMono(String.class)
+        .toFuture();
+  }
+
+}
@@ -0,0 +1,64 @@
+package com.tektechno.payout.config;
+
+import com.tektechno.payout.utilities.AdaptiveConcurrencyLimiter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Adaptive concurrency limits for outbound Cyrus send-money traffic. Interactive payouts and bulk
+ * payout rows have separate limiters, so a large bulk run cannot starve single payouts, and batch
+ * status checks fan out to Cyrus {@code checkstatus} under a third one. The current limit and
+ * in-flight count of each are published as {@code payout.concurrency.limit} and
+ * {@code payout.concurrency.in.flight}, tagged by limiter name.
+ */
+@Configuration
+public class ConcurrencyLimitConfig {
+
+  @Value("${payout.limiter.rtt-tolerance:1.5}")
+  private double rttTolerance;
+
+  @Value("${payout.limiter.smoothing:0.2}")
+  private double smoothing;
+
+  @Bean
+  public AdaptiveConcurrencyLimiter sendMoneyConcurrencyLimiter(
+      MeterRegistry meterRegistry,
+      @Value("${payout.limiter.send-money.initial-limit:10}") int initialLimit,
+      @Value("${payout.limiter.send-money.min-limit:2}") int minLimit,
+      @Value("${payout.limiter.send-money.max-limit:20}") int maxLimit) {
+    return register(meterRegistry,
+        new AdaptiveConcurrencyLimiter("send-money", initialLimit, minLimit, maxLimit, rttTolerance, smoothing));
+  }
+
+  @Bean
+  public AdaptiveConcurrencyLimiter bulkPayoutConcurrencyLimiter(
+      MeterRegistry meterRegistry,
+      @Value("${payout.limiter.bulk.initial-limit:4}") int initialLimit,
+      @Value("${payout.limiter.bulk.min-limit:1}") int minLimit,
+      @Value("${payout.limiter.bulk.max-limit:16}") int maxLimit) {
+    return register(meterRegistry,
+        new AdaptiveConcurrencyLimiter("bulk", initialLimit, minLimit, maxLimit, rttTolerance, smoothing));
+  }
+
+  @Bean
+  public AdaptiveConcurrencyLimiter statusCheckConcurrencyLimiter(
+      MeterRegistry meterRegistry,
+      @Value("${payout.limiter.status-check.initial-limit:8}") int initialLimit,
+      @Value("${payout.limiter.status-check.min-limit:2}") int minLimit,
+      @Value("${payout.limiter.status-check.max-limit:16}") int maxLimit) {
+    return register(meterRegistry,
+        new AdaptiveConcurrencyLimiter("status-check", initialLimit, minLimit, maxLimit, rttTolerance, smoothing));
+  }
+
+  private static AdaptiveConcurrencyLimiter register(MeterRegistry meterRegistry, AdaptiveConcurrencyLimiter limiter) {
+    Gauge.builder("payout.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+        .tag("limiter", limiter.getName()).register(meterRegistry);
+    Gauge.builder("payout.concurrency.in.flight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+        .tag("limiter", limiter.getName()).register(meterRegistry);
+    return limiter;
+  }
+
+}
@@ -0,0 +1,44 @@
+package com.tektechno.payout.config;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * CyrusHttpClientConfig builds the {@link RestTemplate} used for every Cyrus call on top of the JDK
+ * {@link HttpClient}. The client is pinned to HTTP/1.1 (the Cyrus endpoints are plain ASP.NET pages)
+ * and has connect and read timeouts. When virtual threads are enabled the client's internal
+ * executor uses them too, so a slow Cyrus response never holds a platform thread.
+ */
+@Configuration
+public class CyrusHttpClientConfig {
+
+  @Value("${spring.threads.virtual.enabled:false}")
+  private boolean virtualThreads;
+
+  @Value("${cyrus.http.connect-timeout-ms:5000}")
+  private long connectTimeoutMillis;
+
+  @Value("${cyrus.http.read-timeout-ms:30000}")
+  private long readTimeoutMillis;
+
+  @Bean
+  public RestTemplate getRestTemplate() {
+    HttpClient.Builder httpClientBuilder = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .connectTimeout(Duration.ofMillis(connectTimeoutMillis));
+    if (virtualThreads) {
+      httpClientBuilder.executor(Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("cyrus-http-", 1).factory()));
+    }
+
+    JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClientBuilder.build());
+    requestFactory.setReadTimeout(Duration.ofMillis(readTimeoutMillis));
+    return new RestTemplate(requestFactory);
+  }
+
+}
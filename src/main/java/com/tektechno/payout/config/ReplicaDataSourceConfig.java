@@ -0,0 +1,77 @@
+package com.tektechno.payout.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.HashMap;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * ReplicaDataSourceConfig wires a primary and a read replica connection pool behind a single
+ * routing {@link DataSource}. Transactions marked {@code readOnly = true} are sent to the replica,
+ * everything else stays on the primary.
+ * The routing data source is wrapped in a {@link LazyConnectionDataSourceProxy} so that the
+ * physical connection is only fetched once the transaction's read-only flag has been bound.
+ * This configuration is only active when {@code datasource.replica.enabled=true}; otherwise the
+ * default Spring Boot data source is used unchanged.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+  @Bean
+  @ConfigurationProperties("spring.datasource.hikari")
+  public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+    HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+        .type(HikariDataSource.class)
+        .build();
+    dataSource.setPoolName("primary-pool");
+    return dataSource;
+  }
+
+  @Bean
+  @ConfigurationProperties("datasource.replica.hikari")
+  public HikariDataSource replicaDataSource() {
+    HikariDataSource dataSource = new HikariDataSource();
+    dataSource.setPoolName("replica-pool");
+    dataSource.setReadOnly(true);
+    return dataSource;
+  }
+
+  @Bean
+  public ReplicaLagMonitor replicaLagMonitor(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                             @Qualifier("replicaDataSource") DataSource replicaDataSource) {
+    return new ReplicaLagMonitor(new JdbcTemplate(primaryDataSource), new JdbcTemplate(replicaDataSource));
+  }
+
+  /**
+   * this is the routing data source used by JPA and every repository .
+   *
+   * @return @{@link DataSource}
+   */
+  @Bean
+  @Primary
+  public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                               @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                               ReplicaLagMonitor replicaLagMonitor) {
+    Map<Object, Object> targetDataSources = new HashMap<>();
+    targetDataSources.put(ReplicaRoutingDataSource.Route.PRIMARY, primaryDataSource);
+    targetDataSources.put(ReplicaRoutingDataSource.Route.REPLICA, replicaDataSource);
+
+    ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(replicaLagMonitor);
+    routingDataSource.setTargetDataSources(targetDataSources);
+    routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+    routingDataSource.afterPropertiesSet();
+
+    return new LazyConnectionDataSourceProxy(routingDataSource);
+  }
+
+}
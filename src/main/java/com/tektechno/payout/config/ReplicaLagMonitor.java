@@ -0,0 +1,94 @@
+package com.tektechno.payout.config;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Tracks how far the read replica has replayed the primary's WAL.
+ * The replica's replay position is polled in the background, so routing a read never costs an extra
+ * query. After a write commits, the primary's current WAL position is remembered per member and reads
+ * for that member stay on the primary until the replica has caught up to it. If the replica cannot be
+ * polled all reads fall back to the primary.
+ */
+public class ReplicaLagMonitor {
+
+  public static final String SYSTEM_KEY = "__system__";
+
+  private static final long UNKNOWN_LSN = -1L;
+
+  private static final Logger logger = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+  private final JdbcTemplate primaryJdbcTemplate;
+
+  private final JdbcTemplate replicaJdbcTemplate;
+
+  private final Map<String, Long> lastWriteLsnByKey = new ConcurrentHashMap<>();
+
+  private volatile long replayedLsn = UNKNOWN_LSN;
+
+  public ReplicaLagMonitor(JdbcTemplate primaryJdbcTemplate, JdbcTemplate replicaJdbcTemplate) {
+    this.primaryJdbcTemplate = primaryJdbcTemplate;
+    this.replicaJdbcTemplate = replicaJdbcTemplate;
+  }
+
+  /**
+   * Returns true when the replica has replayed every write committed for the given key.
+   *
+   * @param key member id or {@link #SYSTEM_KEY}
+   * @return @{@link Boolean}
+   */
+  public boolean canServeRead(String key) {
+    long replayed = replayedLsn;
+    if (replayed == UNKNOWN_LSN) {
+      return false;
+    }
+    Long lastWriteLsn = lastWriteLsnByKey.get(key);
+    return lastWriteLsn == null || replayed >= lastWriteLsn;
+  }
+
+  /**
+   * Records the primary's current WAL position as the last write made for the given key.
+   *
+   * @param key member id or {@link #SYSTEM_KEY}
+   */
+  public void recordWrite(String key) {
+    try {
+      String lsn = primaryJdbcTemplate.queryForObject("SELECT pg_current_wal_lsn()::text", String.class);
+      lastWriteLsnByKey.merge(key, parseLsn(lsn), Math::max);
+    } catch (Exception e) {
+      logger.warn("Unable to read primary WAL position for key: {}. Error: {}", key, e.getMessage());
+    }
+  }
+
+  @Scheduled(fixedDelayString = "${datasource.replica.lag-poll-interval-ms:500}")
+  public void pollReplayedLsn() {
+    try {
+      String lsn = replicaJdbcTemplate.queryForObject("SELECT pg_last_wal_replay_lsn()::text", String.class);
+      long replayed = lsn == null ? UNKNOWN_LSN : parseLsn(lsn);
+      replayedLsn = replayed;
+      if (replayed != UNKNOWN_LSN) {
+        lastWriteLsnByKey.values().removeIf(lastWriteLsn -> lastWriteLsn <= replayed);
+      }
+    } catch (Exception e) {
+      if (replayedLsn != UNKNOWN_LSN) {
+        logger.error("Replica lag check failed, routing all reads to primary. Error: {}", e.getMessage());
+      }
+      replayedLsn = UNKNOWN_LSN;
+    }
+  }
+
+  /**
+   * Converts a Postgres {@code pg_lsn} text value such as {@code 16/B374D848} to a comparable long.
+   */
+  static long parseLsn(String lsn) {
+    int separator = lsn.indexOf('/');
+    long high = Long.parseLong(lsn.substring(0, separator), 16);
+    long low = Long.parseLong(lsn.substring(separator + 1), 16);
+    return (high << 32) | low;
+  }
+
+}
@@ -0,0 +1,80 @@
+package com.tektechno.payout.config;
+
+import com.tektechno.payout.dto.jwt.JwtPayloadDto;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Routing data source that sends read-only transactions to the replica pool.
+ * A read is only routed to the replica when {@link ReplicaLagMonitor} confirms that the replica has
+ * already replayed the last write made on behalf of the same member, which gives read-your-writes
+ * behaviour for flows such as listing transactions right after {@code sendMoney}.
+ * Every committed read-write transaction registers its primary WAL position with the monitor.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+  /**
+   * Lookup keys of the target data sources.
+   */
+  public enum Route {
+    PRIMARY,
+    REPLICA
+  }
+
+  private static final String WRITE_TRACKED_RESOURCE = ReplicaRoutingDataSource.class.getName() + ".WRITE_TRACKED";
+
+  private final ReplicaLagMonitor replicaLagMonitor;
+
+  public ReplicaRoutingDataSource(ReplicaLagMonitor replicaLagMonitor) {
+    this.replicaLagMonitor = replicaLagMonitor;
+  }
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    String consistencyKey = currentConsistencyKey();
+
+    if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+      return replicaLagMonitor.canServeRead(consistencyKey) ? Route.REPLICA : Route.PRIMARY;
+    }
+
+    trackWrite(consistencyKey);
+    return Route.PRIMARY;
+  }
+
+  private void trackWrite(String consistencyKey) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()
+        || TransactionSynchronizationManager.hasResource(WRITE_TRACKED_RESOURCE)) {
+      return;
+    }
+
+    TransactionSynchronizationManager.bindResource(WRITE_TRACKED_RESOURCE, Boolean.TRUE);
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        replicaLagMonitor.recordWrite(consistencyKey);
+      }
+
+      @Override
+      public void afterCompletion(int status) {
+        TransactionSynchronizationManager.unbindResourceIfPossible(WRITE_TRACKED_RESOURCE);
+      }
+    });
+  }
+
+  /**
+   * Reads and writes are matched per member; background jobs without an authenticated member share
+   * a single key.
+   */
+  private String currentConsistencyKey() {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    if (authentication != null && authentication.getPrincipal() instanceof JwtPayloadDto jwtPayloadDto
+        && jwtPayloadDto.getMemberId() != null) {
+      return jwtPayloadDto.getMemberId();
+    }
+    return ReplicaLagMonitor.SYSTEM_KEY;
+  }
+
+}
@@ -1,9 +1,11 @@
 package com.tektechno.payout.config;
 
 import com.tektechno.payout.utilities.JwtTokenFilter;
+import jakarta.servlet.DispatcherType;
 import java.util.Arrays;
 import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -17,7 +19,6 @@ import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.security.web.header.writers.ReferrerPolicyHeaderWriter;
 import org.springframework.security.web.header.writers.XXssProtectionHeaderWriter;
-import org.springframework.web.client.RestTemplate;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -39,6 +40,9 @@ public class SecurityConfig {
   @Autowired
   private CustomAuthenticationEntryPoint customAuthenticationEntryPoint;
 
+  @Value("${security.password.bcrypt-strength:10}")
+  private int bcryptStrength;
+
   @Bean
   protected SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
 
@@ -59,11 +63,17 @@ public class SecurityConfig {
     http
         .authorizeHttpRequests(authorizationManagerRequestMatcherRegistry ->
             authorizationManagerRequestMatcherRegistry
+                // async re-dispatches (CompletableFuture and streaming results) were authorized on the original request
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                .requestMatchers("/api/v1/auth/register/users/**").hasAnyAuthority("SUPER_ADMIN", "ADMIN")
                 .requestMatchers("/api/v1/auth/**").permitAll()
                 .requestMatchers("/api/v1/callback/**").permitAll()
                 .requestMatchers("/api/v1/health-check/**").permitAll()
+                .requestMatchers("/actuator/health").permitAll()
+                .requestMatchers("/actuator/**").hasAnyAuthority("SUPER_ADMIN", "ADMIN")
                 .requestMatchers("/api/v1/user/**").hasAnyAuthority("USER", "ADMIN", "SUPER_ADMIN")
                 .requestMatchers("/api/v1/payout/**").hasAnyAuthority("SUPER_ADMIN", "ADMIN")
+                .requestMatchers("/api/v1/admin/**").hasAnyAuthority("SUPER_ADMIN", "ADMIN")
                 .requestMatchers("/api/v1/balance/**").hasAnyAuthority("SUPER_ADMIN", "ADMIN")
                 .requestMatchers("/api/v1/wallet-balance/**").hasAnyAuthority("SUPER_ADMIN", "ADMIN")
                 .anyRequest().fullyAuthenticated());
@@ -119,20 +129,16 @@ public class SecurityConfig {
     return source;
   }
 
-  @Bean
-  public RestTemplate getRestTemplate() {
-    return new RestTemplate();
-  }
-
 
   /**
-   * this is a password encoder bean method .
+   * this is a password encoder bean method . Existing hashes with a different cost are rehashed
+   * on the next successful login.
    *
    * @return @{@link PasswordEncoder}
    */
   @Bean
   public PasswordEncoder passwordEncoder() {
-    return new BCryptPasswordEncoder();
+    return new BCryptPasswordEncoder(bcryptStrength);
   }
 
 }
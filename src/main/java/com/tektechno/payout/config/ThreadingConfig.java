@@ -0,0 +1,84 @@
+package com.tektechno.payout.config;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
+
+/**
+ * ThreadingConfig selects between platform and virtual threads for the application's own workers.
+ * The mode follows Spring Boot's {@code spring.threads.virtual.enabled} switch, which already moves
+ * Tomcat request handling and the {@code @Scheduled} executor onto virtual threads; the same flag is
+ * applied here to the bulk payout workers, the batch status check workers and, in
+ * {@link CyrusHttpClientConfig}, to the Cyrus client.
+ * In platform mode each pool is sized to its limiter's maximum ({@code payout.limiter.bulk.max-limit},
+ * {@code payout.limiter.status-check.max-limit}); in virtual mode every task gets its own virtual
+ * thread. In both modes the adaptive limiter decides how many tasks actually run at once.
+ */
+@Configuration
+public class ThreadingConfig {
+
+  private static final Logger logger = LoggerFactory.getLogger(ThreadingConfig.class);
+
+  @Value("${spring.threads.virtual.enabled:false}")
+  private boolean virtualThreads;
+
+  @Value("${payout.limiter.bulk.max-limit:16}")
+  private int bulkMaxConcurrency;
+
+  @Value("${payout.limiter.status-check.max-limit:16}")
+  private int statusCheckMaxConcurrency;
+
+  /**
+   * this is the executor used by bulk payout jobs . The submitting thread's security context is
+   * carried over to every task.
+   *
+   * @return @{@link ExecutorService}
+   */
+  @Bean(destroyMethod = "shutdown")
+  public ExecutorService bulkPayoutExecutor() {
+    ExecutorService executor;
+    if (virtualThreads) {
+      executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("bulk-payout-", 1).factory());
+    } else {
+      executor = Executors.newFixedThreadPool(Math.max(1, bulkMaxConcurrency), namedPlatformThreads("bulk-payout-"));
+    }
+    logger.info("Bulk payout workers running on {} threads", virtualThreads ? "virtual" : "platform");
+    return new DelegatingSecurityContextExecutorService(executor);
+  }
+
+  /**
+   * this is the executor the batch status check fans its Cyrus calls out on, so the checks overlap
+   * even with the blocking Cyrus client. The submitting thread's security context is carried over to
+   * every task.
+   *
+   * @return @{@link ExecutorService}
+   */
+  @Bean(destroyMethod = "shutdown")
+  public ExecutorService statusCheckExecutor() {
+    ExecutorService executor;
+    if (virtualThreads) {
+      executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("status-check-", 1).factory());
+    } else {
+      executor = Executors.newFixedThreadPool(Math.max(1, statusCheckMaxConcurrency),
+          namedPlatformThreads("status-check-"));
+    }
+    return new DelegatingSecurityContextExecutorService(executor);
+  }
+
+  private static ThreadFactory namedPlatformThreads(String prefix) {
+    AtomicInteger threadNumber = new AtomicInteger();
+    return runnable -> {
+      Thread thread = new Thread(runnable, prefix + threadNumber.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+
+}
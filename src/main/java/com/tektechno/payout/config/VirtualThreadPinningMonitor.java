@@ -0,0 +1,102 @@
+package com.tektechno.payout.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Streams the JFR {@code jdk.VirtualThreadPinned} event in-process while virtual threads are enabled.
+ * A virtual thread that blocks while pinned to its carrier (inside a {@code synchronized} block or a
+ * native frame, e.g. in a JDBC driver or connection pool) holds a carrier thread and can starve the
+ * others. Every pinning longer than the threshold is recorded in the {@code jvm.virtual.threads.pinned}
+ * timer, and each distinct stack is logged once at WARN with its top frames and then counted.
+ */
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor {
+
+  private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+  private static final int LOGGED_FRAMES = 12;
+
+  private static final Logger logger = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+  @Value("${diagnostics.virtual-thread-pinning.enabled:true}")
+  private boolean enabled;
+
+  @Value("${diagnostics.virtual-thread-pinning.threshold-ms:20}")
+  private long thresholdMillis;
+
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  private final Map<String, LongAdder> pinnedStacks = new ConcurrentHashMap<>();
+
+  private RecordingStream recordingStream;
+
+  private Timer pinnedTimer;
+
+  @PostConstruct
+  protected void start() {
+    if (!enabled) {
+      return;
+    }
+    pinnedTimer = Timer.builder("jvm.virtual.threads.pinned").register(meterRegistry);
+    recordingStream = new RecordingStream();
+    recordingStream.enable(PINNED_EVENT).withThreshold(Duration.ofMillis(thresholdMillis)).withStackTrace();
+    recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+    recordingStream.startAsync();
+    logger.info("Virtual thread pinning monitor started with a {} ms threshold", thresholdMillis);
+  }
+
+  @PreDestroy
+  protected void stop() {
+    if (recordingStream != null) {
+      recordingStream.close();
+    }
+  }
+
+  private void onPinned(RecordedEvent event) {
+    pinnedTimer.record(event.getDuration());
+    String stack = topFrames(event.getStackTrace());
+    LongAdder count = pinnedStacks.computeIfAbsent(stack, key -> new LongAdder());
+    count.increment();
+    if (count.sum() == 1) {
+      logger.warn("Virtual thread pinned for {} ms on thread {}:{}", event.getDuration().toMillis(),
+          event.getThread() == null ? "unknown" : event.getThread().getJavaName(), stack);
+    }
+  }
+
+  private static String topFrames(RecordedStackTrace stackTrace) {
+    if (stackTrace == null) {
+      return " <no stack trace>";
+    }
+    StringBuilder frames = new StringBuilder();
+    int count = 0;
+    for (RecordedFrame frame : stackTrace.getFrames()) {
+      if (count++ == LOGGED_FRAMES) {
+        break;
+      }
+      frames.append("\n\tat ").append(frame.getMethod().getType().getName())
+          .append('.').append(frame.getMethod().getName())
+          .append(':').append(frame.getLineNumber());
+    }
+    return frames.toString();
+  }
+
+}
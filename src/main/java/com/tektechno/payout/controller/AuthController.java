@@ -1,6 +1,8 @@
 package com.tektechno.payout.controller;
 
+import com.tektechno.payout.dto.request.BatchUserRegistrationDto;
 import com.tektechno.payout.dto.request.LogInRequestDto;
+import com.tektechno.payout.dto.request.RefreshTokenRequestDto;
 import com.tektechno.payout.dto.request.UserRegistrationDto;
 import com.tektechno.payout.service.AuthService;
 import jakarta.validation.Valid;
@@ -23,9 +25,19 @@ public class AuthController {
     return authService.createUser(userRegistrationDto);
   }
 
+  @PostMapping("/register/users/batch")
+  public ResponseEntity<?> createUsers(@Valid @RequestBody BatchUserRegistrationDto batchUserRegistrationDto) {
+    return authService.createUsers(batchUserRegistrationDto);
+  }
+
   @PostMapping("/log-in")
   public ResponseEntity<?> loginUser(@Valid @RequestBody LogInRequestDto logInRequestDto) {
     return authService.loginUser(logInRequestDto);
   }
 
+  @PostMapping("/refresh")
+  public ResponseEntity<?> refreshToken(@Valid @RequestBody RefreshTokenRequestDto refreshTokenRequestDto) {
+    return authService.refreshToken(refreshTokenRequestDto);
+  }
+
 }
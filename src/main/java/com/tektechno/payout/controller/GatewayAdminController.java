@@ -0,0 +1,27 @@
+package com.tektechno.payout.controller;
+
+import com.tektechno.payout.service.GatewayAdminService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/admin/gateway")
+public class GatewayAdminController {
+
+  @Autowired
+  private GatewayAdminService gatewayAdminService;
+
+  @GetMapping("/resilience")
+  public ResponseEntity<?> getResilienceState() {
+    return gatewayAdminService.getResilienceState();
+  }
+
+  @GetMapping("/bulk-queues")
+  public ResponseEntity<?> getBulkQueueState() {
+    return gatewayAdminService.getBulkQueueState();
+  }
+
+}
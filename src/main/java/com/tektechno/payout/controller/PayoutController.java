@@ -3,20 +3,35 @@ package com.tektechno.payout.controller;
 import com.tektechno.payout.dto.request.AddBeneficiaryRequestDto;
 import com.tektechno.payout.dto.request.AddBulkBeneficiaryRequestDto;
 import com.tektechno.payout.dto.request.SendMoneyRequestDto;
+import com.tektechno.payout.dto.request.TransactionSearchRequestDto;
+import com.tektechno.payout.enums.ExportFormat;
+import com.tektechno.payout.service.PayoutExportService;
 import com.tektechno.payout.service.PayoutService;
+import com.tektechno.payout.service.PayoutSummaryService;
 import com.tektechno.payout.utilities.DecodeJwtTokenUtility;
+import com.tektechno.payout.utilities.IdempotentRequestHandler;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/v1/payout")
@@ -26,17 +41,28 @@ public class PayoutController {
   @Autowired
   private PayoutService payoutService;
 
+  @Autowired
+  private PayoutExportService payoutExportService;
+
+  @Autowired
+  private PayoutSummaryService payoutSummaryService;
+
   @Autowired
   private DecodeJwtTokenUtility decodeJwtTokenUtility;
 
+  @Autowired
+  private IdempotentRequestHandler idempotentRequestHandler;
+
   @GetMapping("/beneficiary-type")
-  public ResponseEntity<?> getBeneType() {
-    return payoutService.getBeneType();
+  public CompletableFuture<ResponseEntity<?>> getBeneType(
+      @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+    return payoutService.getBeneType(ifNoneMatch);
   }
 
   @GetMapping("/pay-reason")
-  public ResponseEntity<?> getPayReason() {
-    return payoutService.getPayReason();
+  public CompletableFuture<ResponseEntity<?>> getPayReason(
+      @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+    return payoutService.getPayReason(ifNoneMatch);
   }
 
   @PostMapping("/add/beneficiary")
@@ -51,13 +77,29 @@ public class PayoutController {
   }
 
   @GetMapping("/beneficiary-details")
-  public ResponseEntity<?> getBeneficiaryDetails(@RequestParam String beneficiaryMobileNumber) {
+  public CompletableFuture<ResponseEntity<?>> getBeneficiaryDetails(@RequestParam String beneficiaryMobileNumber) {
     return payoutService.getBeneficiaryDetails(beneficiaryMobileNumber);
   }
 
+  @GetMapping("/beneficiary/search")
+  public ResponseEntity<?> searchBeneficiaries(@RequestParam String query,
+                                               @RequestParam(defaultValue = "10") int limit) {
+    return payoutService.searchBeneficiaries(query, limit);
+  }
+
   @PostMapping("/send-money")
-  public ResponseEntity<?> sendMoney(@Valid @RequestBody SendMoneyRequestDto sendMoneyRequestDto) {
-    return payoutService.sendMoney(sendMoneyRequestDto);
+  public ResponseEntity<?> sendMoney(
+      @Valid @RequestBody SendMoneyRequestDto sendMoneyRequestDto,
+      @RequestHeader(value = IdempotentRequestHandler.HEADER, required = false) String idempotencyKey) {
+    String scope = String.valueOf(decodeJwtTokenUtility.getUserId());
+    return idempotentRequestHandler.execute(scope, idempotencyKey, sendMoneyRequestDto,
+        () -> payoutService.sendMoney(sendMoneyRequestDto));
+  }
+
+  @PostMapping(value = "/send-money/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<?> sendMoneyBatch(HttpServletRequest request) throws IOException {
+    String memberId = decodeJwtTokenUtility.getMemberId();
+    return payoutService.sendMoneyBatch(request.getInputStream(), memberId);
   }
 
   @GetMapping("/transaction-details")
@@ -68,10 +110,15 @@ public class PayoutController {
   }
 
   @GetMapping("/check-status")
-  public ResponseEntity<?> checkStatus(@RequestParam String orderId) {
+  public CompletableFuture<ResponseEntity<?>> checkStatus(@RequestParam String orderId) {
     return payoutService.checkStatus(orderId);
   }
 
+  @PostMapping("/check-status/batch")
+  public ResponseEntity<?> checkStatusBatch(@RequestBody List<String> orderIds) {
+    return payoutService.checkStatusBatch(orderIds);
+  }
+
   @GetMapping("/beneficiary-list")
   public ResponseEntity<?> getBeneficiaryList(@RequestParam int pageNumber,
                                               @RequestParam int pageSize) {
@@ -84,6 +131,25 @@ public class PayoutController {
     return payoutService.getAllPayoutTransaction(pageNumber, pageSize);
   }
 
+  @GetMapping("/transactions/search")
+  public ResponseEntity<?> searchTransactions(TransactionSearchRequestDto transactionSearchRequestDto) {
+    return payoutService.searchTransactions(transactionSearchRequestDto);
+  }
+
+  @GetMapping("/transactions/export")
+  public ResponseEntity<StreamingResponseBody> exportTransactions(
+      TransactionSearchRequestDto transactionSearchRequestDto,
+      @RequestParam(defaultValue = "CSV") ExportFormat format) {
+    return payoutExportService.exportTransactions(transactionSearchRequestDto, format);
+  }
+
+  @GetMapping("/summary/daily")
+  public ResponseEntity<?> getDailySummary(
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fromDate,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate toDate) {
+    return payoutSummaryService.getDailySummary(fromDate, toDate);
+  }
+
   @PostMapping("/beneficiaries/bulk-upload")
   public ResponseEntity<?> uploadBulkBeneficiary(
       @RequestPart("file") MultipartFile file,
@@ -13,5 +13,7 @@ public class JwtPayloadDto {
   private String userType;
   private String tokenType;
   private String memberId;
+  private String tokenId;
+  private String familyId;
 
 }
@@ -0,0 +1,18 @@
+package com.tektechno.payout.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.Data;
+
+@Data
+public class BatchUserRegistrationDto {
+
+  @NotNull(message = "users cannot be null")
+  @NotEmpty(message = "users cannot be empty")
+  @Size(max = 500, message = "users cannot contain more than 500 entries")
+  private List<@Valid UserRegistrationDto> users;
+
+}
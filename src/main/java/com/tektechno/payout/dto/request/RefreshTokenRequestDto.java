@@ -0,0 +1,16 @@
+package com.tektechno.payout.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+@Data
+public class RefreshTokenRequestDto {
+
+  @NotNull(message = "refreshToken cannot be null")
+  @NotBlank(message = "refreshToken cannot be blank")
+  @NotEmpty(message = "refreshToken cannot be empty")
+  private String refreshToken;
+
+}
@@ -0,0 +1,35 @@
+package com.tektechno.payout.dto.request;
+
+import java.util.Date;
+import lombok.Data;
+import org.springframework.format.annotation.DateTimeFormat;
+
+@Data
+public class TransactionSearchRequestDto {
+
+  private String status;
+
+  @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+  private Date fromDate;
+
+  @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+  private Date toDate;
+
+  private Long minAmount;
+
+  private Long maxAmount;
+
+  private String transferType;
+
+  private String memberId;
+
+  private String bulkTransactionId;
+
+  /**
+   * Opaque keyset cursor returned as {@code nextCursor} by the previous page.
+   */
+  private String cursor;
+
+  private int pageSize = 20;
+
+}
@@ -0,0 +1,22 @@
+package com.tektechno.payout.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BeneficiarySearchResultDto {
+
+  private String beneficiaryId;
+
+  private String beneficiaryName;
+
+  private String accountNumberSuffix;
+
+  private String beneficiaryMobileNumber;
+
+  private String beneficiaryIfscCode;
+
+}
@@ -0,0 +1,23 @@
+package com.tektechno.payout.dto.response;
+
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PayoutDailyRollupDto {
+
+  private LocalDate rollupDate;
+
+  private String status;
+
+  private String transferType;
+
+  private long transactionCount;
+
+  private long totalAmount;
+
+}
@@ -17,6 +17,12 @@ public class SendMoneyHistoryResponseDto {
 
   private String orderId;
 
+  private Long amount;
+
+  private String transferType;
+
+  private String bulkTransactionId;
+
   private String cyrusOrderId;
 
   private String cyrusId;
@@ -0,0 +1,20 @@
+package com.tektechno.payout.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserRegistrationResultDto {
+
+  private int index;
+
+  private String email;
+
+  private boolean created;
+
+  private String message;
+
+}
@@ -6,6 +6,7 @@ public enum BulkPaymentStatus {
   APPROVED,
   DENIED,
   FAILED,
-  COMPLETED
+  COMPLETED,
+  PROCESSING
 
 }
@@ -0,0 +1,8 @@
+package com.tektechno.payout.enums;
+
+public enum ExportFormat {
+
+  CSV,
+  XLSX
+
+}
@@ -0,0 +1,14 @@
+package com.tektechno.payout.exceptions;
+
+/**
+ * Thrown without calling Cyrus when the circuit breaker for a Cyrus method is open or the bulkhead
+ * for its call group is full. Unchecked, because it travels through {@code CompletableFuture}
+ * pipelines.
+ */
+public class CyrusUnavailableException extends RuntimeException {
+
+  public CyrusUnavailableException(String message, Throwable cause) {
+    super(message, cause);
+  }
+
+}
@@ -0,0 +1,13 @@
+package com.tektechno.payout.exceptions;
+
+/**
+ * Thrown when a bounded worker pool cannot accept more work, so the caller can fail fast instead of
+ * queueing behind an overloaded resource.
+ */
+public class ServiceBusyException extends TechnoException {
+
+  public ServiceBusyException(String message) {
+    super(message);
+  }
+
+}
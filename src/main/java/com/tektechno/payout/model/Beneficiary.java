@@ -1,6 +1,7 @@
 package com.tektechno.payout.model;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
@@ -13,10 +14,17 @@ import jakarta.persistence.Table;
 import java.util.Date;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 @Entity
 @Getter
 @Setter
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "beneficiary")
+@NaturalIdCache(region = "beneficiary-natural-id")
 @Table(
     name = "beneficiary",
     schema = "tektechno",
@@ -26,6 +34,7 @@ import lombok.Setter;
         @Index(name = "idx_beneficiary_status", columnList = "status"),
         @Index(name = "idx_beneficiary_beneficiary_id", columnList = "beneficiary_id"),
         @Index(name = "idx_beneficiary_member_id", columnList = "member_id"),
+        @Index(name = "idx_beneficiary_mobile_number", columnList = "beneficiary_mobile_number"),
     })
 public class Beneficiary {
 
@@ -38,6 +47,7 @@ public class Beneficiary {
   @Column(name = "member_id")
   private String memberId;
 
+  @NaturalId
   @Column(name = "beneficiary_id", nullable = false, unique = true)
   private String beneficiaryId;
 
@@ -77,6 +87,19 @@ public class Beneficiary {
   @Column(name = "longitude", nullable = false)
   private Long longitude;
 
+  /**
+   * Last {@code BENEFICIARY_DETAILS} response from Cyrus for this beneficiary, as JSON.
+   */
+  @JsonIgnore
+  @Column(name = "cyrus_details", columnDefinition = "TEXT")
+  private String cyrusDetails;
+
+  /**
+   * When {@link #cyrusDetails} was fetched; null when the row changed since and must be re-fetched.
+   */
+  @Column(name = "details_synced_at")
+  private Date detailsSyncedAt;
+
   @Column(name = "status", nullable = false)
   private boolean status;
 
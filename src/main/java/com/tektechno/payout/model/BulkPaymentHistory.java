@@ -62,7 +62,9 @@ public class BulkPaymentHistory {
   private void beforeInsert() {
     this.setCreatedAt(new Date());
     this.setUpdatedAt(new Date());
-    this.setStatus(BulkPaymentStatus.PENDING);
+    if (this.getStatus() == null) {
+      this.setStatus(BulkPaymentStatus.PENDING);
+    }
   }
 
   @PreUpdate
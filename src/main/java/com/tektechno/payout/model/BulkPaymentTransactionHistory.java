@@ -32,7 +32,8 @@ import lombok.Setter;
         @Index(name = "idx_bulk_payment_transaction_history_created_at", columnList = "created_at"),
         @Index(name = "idx_bulk_payment_transaction_history_transaction_id", columnList = "transaction_id"),
         @Index(name = "idx_bulk_payment_transaction_history_member_id", columnList = "member_id"),
-        @Index(name = "idx_bulk_payment_transaction_history_status", columnList = "status")
+        @Index(name = "idx_bulk_payment_transaction_history_status", columnList = "status"),
+        @Index(name = "idx_bulk_payment_transaction_history_order_id", columnList = "order_id")
     })
 public class BulkPaymentTransactionHistory {
 
@@ -76,6 +77,9 @@ public class BulkPaymentTransactionHistory {
   @Column(name = "amount", nullable = false)
   private Long amount;
 
+  @Column(name = "order_id")
+  private String orderId;
+
   @Column(name = "created_at", nullable = false)
   private Date createdAt;
 
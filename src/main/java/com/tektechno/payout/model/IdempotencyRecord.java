@@ -0,0 +1,59 @@
+package com.tektechno.payout.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.util.Date;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * This is an idempotency record entity. A row is claimed (with a null response) when a request with a
+ * new {@code Idempotency-Key} starts and completed with the response once it finishes, so retries of the
+ * same request on any node get the stored response instead of running again.
+ */
+@Entity
+@Getter
+@Setter
+@Table(
+    name = "idempotency_record",
+    schema = "tektechno",
+    indexes = {
+        @Index(name = "idx_idempotency_record_expires_at", columnList = "expires_at"),
+    })
+public class IdempotencyRecord {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @Column(name = "id", nullable = false)
+  private Long id;
+
+  /**
+   * Caller scope and client key, as {@code <scope>:<Idempotency-Key>}.
+   */
+  @Column(name = "idempotency_key", nullable = false, unique = true)
+  private String idempotencyKey;
+
+  @Column(name = "request_hash", nullable = false)
+  private String requestHash;
+
+  @Column(name = "response_status")
+  private Integer responseStatus;
+
+  @Column(name = "response_body", columnDefinition = "TEXT")
+  private String responseBody;
+
+  @Column(name = "created_at", nullable = false)
+  private Date createdAt;
+
+  @Column(name = "completed_at")
+  private Date completedAt;
+
+  @Column(name = "expires_at", nullable = false)
+  private Date expiresAt;
+
+}
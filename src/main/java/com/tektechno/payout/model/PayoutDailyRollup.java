@@ -0,0 +1,77 @@
+package com.tektechno.payout.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDate;
+import java.util.Date;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * This is a daily payout rollup entity. One row holds the count and amount of payouts for a
+ * member, day, status and transfer type, and is maintained incrementally with upserts.
+ */
+@Entity
+@Getter
+@Setter
+@Table(
+    name = "payout_daily_rollup",
+    schema = "tektechno",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_payout_daily_rollup_key",
+            columnNames = {"member_id", "rollup_date", "status", "transfer_type"})
+    },
+    indexes = {
+        @Index(name = "idx_payout_daily_rollup_rollup_date", columnList = "rollup_date"),
+    })
+public class PayoutDailyRollup {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @Column(name = "id", nullable = false)
+  private Long id;
+
+  @Column(name = "member_id", nullable = false)
+  private String memberId;
+
+  @Column(name = "rollup_date", nullable = false)
+  private LocalDate rollupDate;
+
+  @Column(name = "status", nullable = false)
+  private String status;
+
+  @Column(name = "transfer_type", nullable = false)
+  private String transferType;
+
+  @Column(name = "transaction_count", nullable = false)
+  private long transactionCount;
+
+  @Column(name = "total_amount", nullable = false)
+  private long totalAmount;
+
+  @Column(name = "created_at", nullable = false)
+  private Date createdAt;
+
+  @Column(name = "updated_at", nullable = false)
+  private Date updatedAt;
+
+  @PrePersist
+  private void beforeInsert() {
+    this.setCreatedAt(new Date());
+    this.setUpdatedAt(new Date());
+  }
+
+  @PreUpdate
+  private void beforeUpdate() {
+    this.setUpdatedAt(new Date());
+  }
+
+}
@@ -0,0 +1,69 @@
+package com.tektechno.payout.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import java.util.Date;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * This is a refresh token entity. One row is kept per issued refresh token so that a token can be
+ * exchanged exactly once; every token issued from the same login shares a family id.
+ */
+@Entity
+@Getter
+@Setter
+@Table(
+    name = "refresh_token",
+    schema = "tektechno",
+    indexes = {
+        @Index(name = "idx_refresh_token_family_id", columnList = "family_id"),
+        @Index(name = "idx_refresh_token_expires_at", columnList = "expires_at"),
+    })
+public class RefreshToken {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @Column(name = "id", nullable = false)
+  private Long id;
+
+  @Column(name = "token_id", nullable = false, unique = true)
+  private String tokenId;
+
+  @Column(name = "family_id", nullable = false)
+  private String familyId;
+
+  @Column(name = "user_id", nullable = false)
+  private Long userId;
+
+  @Column(name = "used", nullable = false)
+  private boolean used;
+
+  @Column(name = "expires_at", nullable = false)
+  private Date expiresAt;
+
+  @Column(name = "created_at", nullable = false)
+  private Date createdAt;
+
+  @Column(name = "updated_at", nullable = false)
+  private Date updatedAt;
+
+  @PrePersist
+  private void beforeInsert() {
+    this.setCreatedAt(new Date());
+    this.setUpdatedAt(new Date());
+  }
+
+  @PreUpdate
+  private void beforeUpdate() {
+    this.setUpdatedAt(new Date());
+  }
+
+}
@@ -0,0 +1,53 @@
+package com.tektechno.payout.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import java.util.Date;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * This is a revoked token entity. It is the durable source of the in-memory revocation filter and
+ * holds revoked token family ids until the last token of the family has expired.
+ */
+@Entity
+@Getter
+@Setter
+@Table(
+    name = "revoked_token",
+    schema = "tektechno",
+    indexes = {
+        @Index(name = "idx_revoked_token_expires_at", columnList = "expires_at"),
+        @Index(name = "idx_revoked_token_created_at", columnList = "created_at"),
+    })
+public class RevokedToken {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @Column(name = "id", nullable = false)
+  private Long id;
+
+  @Column(name = "token_id", nullable = false, unique = true)
+  private String tokenId;
+
+  @Column(name = "reason")
+  private String reason;
+
+  @Column(name = "expires_at", nullable = false)
+  private Date expiresAt;
+
+  @Column(name = "created_at", nullable = false)
+  private Date createdAt;
+
+  @PrePersist
+  private void beforeInsert() {
+    this.setCreatedAt(new Date());
+  }
+
+}
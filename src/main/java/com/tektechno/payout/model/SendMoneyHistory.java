@@ -24,6 +24,18 @@ import lombok.Setter;
         @Index(name = "idx_send_money_history_beneficiary_id", columnList = "beneficiary_id"),
         @Index(name = "idx_send_money_history_order_id", columnList = "order_id"),
         @Index(name = "idx_send_money_history_member_id", columnList = "member_id"),
+        @Index(name = "idx_send_money_history_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_send_money_history_member_created_at", columnList = "member_id, created_at, id"),
+        @Index(name = "idx_send_money_history_member_status_created_at",
+            columnList = "member_id, status, created_at, id"),
+        @Index(name = "idx_send_money_history_member_transfer_type_created_at",
+            columnList = "member_id, transfer_type, created_at, id"),
+        @Index(name = "idx_send_money_history_status_created_at", columnList = "status, created_at, id"),
+        @Index(name = "idx_send_money_history_transfer_type_created_at",
+            columnList = "transfer_type, created_at, id"),
+        @Index(name = "idx_send_money_history_bulk_transaction_id_created_at",
+            columnList = "bulk_transaction_id, created_at, id"),
+        @Index(name = "idx_send_money_history_amount", columnList = "amount"),
     })
 public class SendMoneyHistory {
 
@@ -44,6 +56,15 @@ public class SendMoneyHistory {
   @Column(name = "order_id", nullable = false)
   private String orderId;
 
+  @Column(name = "amount")
+  private Long amount;
+
+  @Column(name = "transfer_type")
+  private String transferType;
+
+  @Column(name = "bulk_transaction_id")
+  private String bulkTransactionId;
+
   @Column(name = "cyrus_order_id")
   private String cyrusOrderId;
 
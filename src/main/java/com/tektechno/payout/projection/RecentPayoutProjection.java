@@ -0,0 +1,10 @@
+package com.tektechno.payout.projection;
+
+import java.util.Date;
+
+public interface RecentPayoutProjection {
+  String getBeneficiaryId();
+  Long getAmount();
+  String getTransferType();
+  Date getCreatedAt();
+}
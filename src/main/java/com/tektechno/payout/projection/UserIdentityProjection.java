@@ -0,0 +1,6 @@
+package com.tektechno.payout.projection;
+
+public interface UserIdentityProjection {
+  String getEmail();
+  String getMobileNumber();
+}
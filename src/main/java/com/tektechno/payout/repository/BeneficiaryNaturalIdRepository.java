@@ -0,0 +1,25 @@
+package com.tektechno.payout.repository;
+
+import com.tektechno.payout.model.Beneficiary;
+import jakarta.transaction.Transactional;
+import java.util.Date;
+import java.util.Optional;
+
+/**
+ * Beneficiary lookups served through Hibernate's natural-id API so they hit the natural-id and
+ * second-level caches instead of issuing a query.
+ */
+public interface BeneficiaryNaturalIdRepository {
+
+  Optional<Beneficiary> findByBeneficiaryId(String beneficiaryId);
+
+  /**
+   * Stores fetched Cyrus details of a beneficiary without touching its other columns or the cached
+   * beneficiary queries; only the beneficiary's own second-level cache entry is evicted.
+   *
+   * @return number of updated rows
+   */
+  @Transactional
+  int updateCyrusDetails(String beneficiaryId, String cyrusDetails, Date detailsSyncedAt);
+
+}
@@ -0,0 +1,61 @@
+package com.tektechno.payout.repository;
+
+import com.tektechno.payout.model.Beneficiary;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.util.Date;
+import java.util.Optional;
+import org.hibernate.Session;
+import org.hibernate.query.NativeQuery;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class BeneficiaryNaturalIdRepositoryImpl implements BeneficiaryNaturalIdRepository {
+
+  /**
+   * Query space of the details update. No cached query reads it, so the update does not invalidate
+   * the query cache the way a bulk update of {@link Beneficiary} would.
+   */
+  private static final String CYRUS_DETAILS_QUERY_SPACE = "beneficiary_cyrus_details";
+
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  @Override
+  public Optional<Beneficiary> findByBeneficiaryId(String beneficiaryId) {
+    return entityManager.unwrap(Session.class)
+        .bySimpleNaturalId(Beneficiary.class)
+        .loadOptional(beneficiaryId);
+  }
+
+  @Override
+  public int updateCyrusDetails(String beneficiaryId, String cyrusDetails, Date detailsSyncedAt) {
+    Long id = entityManager.createQuery(
+            "SELECT b.id FROM Beneficiary b WHERE b.beneficiaryId = :beneficiaryId", Long.class)
+        .setParameter("beneficiaryId", beneficiaryId)
+        .getResultStream()
+        .findFirst()
+        .orElse(null);
+    if (id == null) {
+      return 0;
+    }
+
+    int rows = entityManager.createNativeQuery("UPDATE tektechno.beneficiary "
+            + "SET cyrus_details = :cyrusDetails, details_synced_at = :detailsSyncedAt WHERE id = :id")
+        .unwrap(NativeQuery.class)
+        .addSynchronizedQuerySpace(CYRUS_DETAILS_QUERY_SPACE)
+        .setParameter("cyrusDetails", cyrusDetails)
+        .setParameter("detailsSyncedAt", detailsSyncedAt)
+        .setParameter("id", id)
+        .executeUpdate();
+
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        entityManager.getEntityManagerFactory().getCache().evict(Beneficiary.class, id);
+      }
+    });
+    return rows;
+  }
+
+}
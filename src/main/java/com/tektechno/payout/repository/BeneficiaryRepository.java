@@ -2,30 +2,43 @@ package com.tektechno.payout.repository;
 
 import com.tektechno.payout.model.Beneficiary;
 import com.tektechno.payout.projection.BeneficiaryIdNameProjection;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 
 @Repository
-public interface BeneficiaryRepository extends JpaRepository<Beneficiary, Long> {
-
-  Optional<Beneficiary> findByBeneficiaryId(String beneficiaryId);
+public interface BeneficiaryRepository extends JpaRepository<Beneficiary, Long>, BeneficiaryNaturalIdRepository {
 
   boolean existsByBeneficiaryBankAccountNumber(String beneficiaryBankAccountNumber);
 
   @Query("SELECT b.beneficiaryName FROM Beneficiary b WHERE b.beneficiaryId = :beneficiaryId")
   String fetchBeneficiaryNameByBeneficiaryId(String beneficiaryId);
 
+  @QueryHints({
+      @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+      @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "beneficiary-query")
+  })
   @Query("SELECT b.beneficiaryId AS id, b.beneficiaryName AS name FROM Beneficiary "
       + "b WHERE b.beneficiaryId IN :beneficiaryIds")
   List<BeneficiaryIdNameProjection> findAllByBeneficiaryIdIn(@Param("beneficiaryIds") Set<String> beneficiaryIds);
 
+  @QueryHints({
+      @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+      @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "beneficiary-query")
+  })
   Optional<Beneficiary> findByBeneficiaryBankAccountNumberAndStatus(String beneficiaryBankAccountNumber, boolean status);
 
+  List<Beneficiary> findAllByBeneficiaryMobileNumber(String beneficiaryMobileNumber);
+
+  List<Beneficiary> findAllByBeneficiaryIdInAndStatus(Collection<String> beneficiaryIds, boolean status);
 
 }
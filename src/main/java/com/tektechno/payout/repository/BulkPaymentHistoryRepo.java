@@ -31,6 +31,15 @@ public interface BulkPaymentHistoryRepo extends JpaRepository<BulkPaymentHistory
                                              @Param("memberId") String memberId,
                                              @Param("transactionId") String transactionId);
 
+  @Modifying
+  @Transactional
+  @Query("UPDATE BulkPaymentHistory b SET b.status = :status, b.updatedAt = CURRENT_TIMESTAMP " +
+      "WHERE b.memberId = :memberId AND b.transactionId = :transactionId AND b.status = :currentStatus")
+  int updateStatusByMemberIdAndTransactionIdAndStatus(@Param("status") BulkPaymentStatus status,
+                                                      @Param("memberId") String memberId,
+                                                      @Param("transactionId") String transactionId,
+                                                      @Param("currentStatus") BulkPaymentStatus currentStatus);
+
   long countByMemberId(String memberId);
 
 }
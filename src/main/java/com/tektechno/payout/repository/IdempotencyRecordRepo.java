@@ -0,0 +1,52 @@
+package com.tektechno.payout.repository;
+
+import com.tektechno.payout.model.IdempotencyRecord;
+import jakarta.transaction.Transactional;
+import java.util.Date;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * This is an idempotency record repository class.
+ */
+@Repository
+public interface IdempotencyRecordRepo extends JpaRepository<IdempotencyRecord, Long> {
+
+  Optional<IdempotencyRecord> findByIdempotencyKey(String idempotencyKey);
+
+  /**
+   * Claims a key. Returns 0 when another request already holds it.
+   */
+  @Modifying
+  @Transactional
+  @Query(value = "INSERT INTO tektechno.idempotency_record (idempotency_key, request_hash, created_at, expires_at) "
+      + "VALUES (:idempotencyKey, :requestHash, now(), :expiresAt) ON CONFLICT (idempotency_key) DO NOTHING",
+      nativeQuery = true)
+  int claim(@Param("idempotencyKey") String idempotencyKey,
+            @Param("requestHash") String requestHash,
+            @Param("expiresAt") Date expiresAt);
+
+  @Modifying
+  @Transactional
+  @Query("UPDATE IdempotencyRecord r SET r.responseStatus = :responseStatus, r.responseBody = :responseBody, "
+      + "r.completedAt = :completedAt WHERE r.idempotencyKey = :idempotencyKey")
+  int complete(@Param("idempotencyKey") String idempotencyKey,
+               @Param("responseStatus") int responseStatus,
+               @Param("responseBody") String responseBody,
+               @Param("completedAt") Date completedAt);
+
+  @Modifying
+  @Transactional
+  @Query("DELETE FROM IdempotencyRecord r WHERE r.idempotencyKey = :idempotencyKey AND r.completedAt IS NULL")
+  int release(@Param("idempotencyKey") String idempotencyKey);
+
+  @Modifying
+  @Transactional
+  @Query("DELETE FROM IdempotencyRecord r WHERE r.expiresAt < :now")
+  int deleteExpired(@Param("now") Date now);
+
+}
@@ -0,0 +1,78 @@
+package com.tektechno.payout.repository;
+
+import com.tektechno.payout.model.PayoutDailyRollup;
+import jakarta.transaction.Transactional;
+import java.time.LocalDate;
+import java.util.Date;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * This is a daily payout rollup repository class.
+ */
+@Repository
+public interface PayoutDailyRollupRepo extends JpaRepository<PayoutDailyRollup, Long> {
+
+  List<PayoutDailyRollup> findByMemberIdAndRollupDateBetweenOrderByRollupDateDesc(String memberId,
+                                                                                  LocalDate fromDate,
+                                                                                  LocalDate toDate);
+
+  @Modifying
+  @Transactional
+  @Query(value = "INSERT INTO tektechno.payout_daily_rollup "
+      + "(member_id, rollup_date, status, transfer_type, transaction_count, total_amount, created_at, updated_at) "
+      + "VALUES (:memberId, :rollupDate, :status, :transferType, :countDelta, :amountDelta, now(), now()) "
+      + "ON CONFLICT (member_id, rollup_date, status, transfer_type) DO UPDATE SET "
+      + "transaction_count = payout_daily_rollup.transaction_count + EXCLUDED.transaction_count, "
+      + "total_amount = payout_daily_rollup.total_amount + EXCLUDED.total_amount, "
+      + "updated_at = now()", nativeQuery = true)
+  int applyDelta(@Param("memberId") String memberId,
+                 @Param("rollupDate") LocalDate rollupDate,
+                 @Param("status") String status,
+                 @Param("transferType") String transferType,
+                 @Param("countDelta") long countDelta,
+                 @Param("amountDelta") long amountDelta);
+
+  @Query(value = "SELECT pg_try_advisory_xact_lock(:key)", nativeQuery = true)
+  boolean tryRecomputeLock(@Param("key") long key);
+
+  /**
+   * Waits for the rollup lock in shared mode, held by every delta until its transaction ends.
+   */
+  @Query(value = "SELECT true FROM pg_advisory_xact_lock_shared(:key)", nativeQuery = true)
+  boolean lockRollupShared(@Param("key") long key);
+
+  /**
+   * Waits for the rollup lock in exclusive mode, so no delta runs until the transaction ends.
+   */
+  @Query(value = "SELECT true FROM pg_advisory_xact_lock(:key)", nativeQuery = true)
+  boolean lockRollupExclusive(@Param("key") long key);
+
+  @Modifying
+  @Transactional
+  @Query("UPDATE PayoutDailyRollup r SET r.transactionCount = 0, r.totalAmount = 0, r.updatedAt = CURRENT_TIMESTAMP "
+      + "WHERE r.rollupDate >= :fromDate AND r.rollupDate < :toDate")
+  int resetBetween(@Param("fromDate") LocalDate fromDate, @Param("toDate") LocalDate toDate);
+
+  @Modifying
+  @Transactional
+  @Query(value = "INSERT INTO tektechno.payout_daily_rollup "
+      + "(member_id, rollup_date, status, transfer_type, transaction_count, total_amount, created_at, updated_at) "
+      + "SELECT COALESCE(h.member_id, ''), "
+      + "CAST((h.created_at AT TIME ZONE current_setting('TimeZone')) AT TIME ZONE :zoneId AS date), "
+      + "COALESCE(h.status, 'UNKNOWN'), COALESCE(h.transfer_type, 'UNKNOWN'), COUNT(*), "
+      + "COALESCE(SUM(h.amount), 0), now(), now() "
+      + "FROM tektechno.send_money_history h "
+      + "WHERE h.created_at >= :since AND h.created_at < :until "
+      + "GROUP BY 1, 2, 3, 4 "
+      + "ON CONFLICT (member_id, rollup_date, status, transfer_type) DO UPDATE SET "
+      + "transaction_count = EXCLUDED.transaction_count, "
+      + "total_amount = EXCLUDED.total_amount, "
+      + "updated_at = now()", nativeQuery = true)
+  int recomputeFromHistory(@Param("zoneId") String zoneId, @Param("since") Date since, @Param("until") Date until);
+
+}
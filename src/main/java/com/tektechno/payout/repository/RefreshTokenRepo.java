@@ -0,0 +1,36 @@
+package com.tektechno.payout.repository;
+
+import com.tektechno.payout.model.RefreshToken;
+import jakarta.transaction.Transactional;
+import java.util.Date;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * This is a refresh token repository class.
+ */
+@Repository
+public interface RefreshTokenRepo extends JpaRepository<RefreshToken, Long> {
+
+  Optional<RefreshToken> findByTokenId(String tokenId);
+
+  /**
+   * Marks a refresh token as exchanged. Only one caller can win for a given token, so a second
+   * exchange of the same token (a replay) sees {@code 0}.
+   */
+  @Modifying
+  @Transactional
+  @Query("UPDATE RefreshToken r SET r.used = true, r.updatedAt = CURRENT_TIMESTAMP "
+      + "WHERE r.tokenId = :tokenId AND r.used = false")
+  int markUsed(@Param("tokenId") String tokenId);
+
+  @Modifying
+  @Transactional
+  @Query("DELETE FROM RefreshToken r WHERE r.expiresAt < :now")
+  int deleteExpired(@Param("now") Date now);
+
+}
@@ -0,0 +1,42 @@
+package com.tektechno.payout.repository;
+
+import com.tektechno.payout.model.RevokedToken;
+import jakarta.transaction.Transactional;
+import java.util.Date;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * This is a revoked token repository class.
+ */
+@Repository
+public interface RevokedTokenRepo extends JpaRepository<RevokedToken, Long> {
+
+  boolean existsByTokenIdAndExpiresAtAfter(String tokenId, Date now);
+
+  @Query("SELECT r.tokenId FROM RevokedToken r WHERE r.expiresAt > :now ORDER BY r.id")
+  Slice<String> findActiveTokenIds(@Param("now") Date now, Pageable pageable);
+
+  @Query("SELECT r.tokenId FROM RevokedToken r WHERE r.createdAt >= :since")
+  List<String> findTokenIdsRevokedSince(@Param("since") Date since);
+
+  @Modifying
+  @Transactional
+  @Query(value = "INSERT INTO tektechno.revoked_token (token_id, reason, expires_at, created_at) "
+      + "VALUES (:tokenId, :reason, :expiresAt, now()) ON CONFLICT (token_id) DO NOTHING", nativeQuery = true)
+  int insertIfAbsent(@Param("tokenId") String tokenId,
+                     @Param("reason") String reason,
+                     @Param("expiresAt") Date expiresAt);
+
+  @Modifying
+  @Transactional
+  @Query("DELETE FROM RevokedToken r WHERE r.expiresAt < :now")
+  int deleteExpired(@Param("now") Date now);
+
+}
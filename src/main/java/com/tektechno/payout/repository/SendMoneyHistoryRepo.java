@@ -1,18 +1,32 @@
 package com.tektechno.payout.repository;
 
 import com.tektechno.payout.model.SendMoneyHistory;
+import com.tektechno.payout.projection.RecentPayoutProjection;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
 
 @Repository
-public interface SendMoneyHistoryRepo extends JpaRepository<SendMoneyHistory, Long> {
+public interface SendMoneyHistoryRepo extends JpaRepository<SendMoneyHistory, Long>,
+    JpaSpecificationExecutor<SendMoneyHistory> {
 
   Page<SendMoneyHistory> findByBeneficiaryId(String beneficiaryId, Pageable pageable);
 
   Optional<SendMoneyHistory> findByOrderId(String orderId);
 
+  List<SendMoneyHistory> findAllByOrderIdIn(Collection<String> orderIds);
+
+  @Query("SELECT h.beneficiaryId AS beneficiaryId, h.amount AS amount, h.transferType AS transferType, "
+      + "h.createdAt AS createdAt FROM SendMoneyHistory h WHERE h.createdAt >= :since")
+  List<RecentPayoutProjection> findPayoutsSince(@Param("since") Date since);
+
 }
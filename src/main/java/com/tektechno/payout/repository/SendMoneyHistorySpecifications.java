@@ -0,0 +1,83 @@
+package com.tektechno.payout.repository;
+
+import com.tektechno.payout.dto.request.TransactionSearchRequestDto;
+import com.tektechno.payout.model.SendMoneyHistory;
+import com.tektechno.payout.utilities.StringUtils;
+import jakarta.persistence.criteria.Predicate;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Dynamic criteria for searching {@link SendMoneyHistory}.
+ * Results are always ordered by {@code (createdAt, id)} descending so that every filter combination
+ * can be paged with a keyset cursor and served by the {@code (..., created_at, id)} composite indexes
+ * declared on the entity.
+ */
+public final class SendMoneyHistorySpecifications {
+
+  public static final Sort KEYSET_SORT = Sort.by(Sort.Direction.DESC, "createdAt", "id");
+
+  private SendMoneyHistorySpecifications() {
+  }
+
+  /**
+   * Builds a specification from the non-empty filters of the search request.
+   *
+   * @param searchRequestDto @{@link TransactionSearchRequestDto}
+   * @return @{@link Specification}
+   */
+  public static Specification<SendMoneyHistory> matching(TransactionSearchRequestDto searchRequestDto) {
+    return (root, query, criteriaBuilder) -> {
+      List<Predicate> predicates = new ArrayList<>();
+
+      if (StringUtils.isNotNullAndNotEmpty(searchRequestDto.getMemberId())) {
+        predicates.add(criteriaBuilder.equal(root.get("memberId"), searchRequestDto.getMemberId()));
+      }
+      if (StringUtils.isNotNullAndNotEmpty(searchRequestDto.getStatus())) {
+        predicates.add(criteriaBuilder.equal(root.get("status"), searchRequestDto.getStatus()));
+      }
+      if (StringUtils.isNotNullAndNotEmpty(searchRequestDto.getTransferType())) {
+        predicates.add(criteriaBuilder.equal(root.get("transferType"), searchRequestDto.getTransferType()));
+      }
+      if (StringUtils.isNotNullAndNotEmpty(searchRequestDto.getBulkTransactionId())) {
+        predicates.add(criteriaBuilder.equal(root.get("bulkTransactionId"), searchRequestDto.getBulkTransactionId()));
+      }
+      if (searchRequestDto.getFromDate() != null) {
+        predicates.add(criteriaBuilder.greaterThanOrEqualTo(root.<Date>get("createdAt"),
+            searchRequestDto.getFromDate()));
+      }
+      if (searchRequestDto.getToDate() != null) {
+        predicates.add(criteriaBuilder.lessThan(root.<Date>get("createdAt"), searchRequestDto.getToDate()));
+      }
+      if (searchRequestDto.getMinAmount() != null) {
+        predicates.add(criteriaBuilder.greaterThanOrEqualTo(root.<Long>get("amount"),
+            searchRequestDto.getMinAmount()));
+      }
+      if (searchRequestDto.getMaxAmount() != null) {
+        predicates.add(criteriaBuilder.lessThanOrEqualTo(root.<Long>get("amount"),
+            searchRequestDto.getMaxAmount()));
+      }
+
+      return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
+    };
+  }
+
+  /**
+   * Restricts results to rows strictly after the given keyset position in {@link #KEYSET_SORT} order.
+   *
+   * @param createdAt created-at of the last row of the previous page
+   * @param id        id of the last row of the previous page
+   * @return @{@link Specification}
+   */
+  public static Specification<SendMoneyHistory> after(Date createdAt, Long id) {
+    return (root, query, criteriaBuilder) -> criteriaBuilder.or(
+        criteriaBuilder.lessThan(root.<Date>get("createdAt"), createdAt),
+        criteriaBuilder.and(
+            criteriaBuilder.equal(root.<Date>get("createdAt"), createdAt),
+            criteriaBuilder.lessThan(root.<Long>get("id"), id)));
+  }
+
+}
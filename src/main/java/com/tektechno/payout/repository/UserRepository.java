@@ -1,8 +1,13 @@
 package com.tektechno.payout.repository;
 
 import com.tektechno.payout.model.Users;
+import com.tektechno.payout.projection.UserIdentityProjection;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -14,5 +19,15 @@ public interface UserRepository extends JpaRepository<Users, Long> {
 
   boolean existsByEmail(String email);
 
+  @Query("SELECT u.email AS email, u.mobileNumber AS mobileNumber FROM Users u "
+      + "WHERE u.email = :email OR u.mobileNumber = :mobileNumber")
+  List<UserIdentityProjection> findIdentitiesByEmailOrMobileNumber(@Param("email") String email,
+                                                                   @Param("mobileNumber") String mobileNumber);
+
+  @Query("SELECT u.email AS email, u.mobileNumber AS mobileNumber FROM Users u "
+      + "WHERE u.email IN :emails OR u.mobileNumber IN :mobileNumbers")
+  List<UserIdentityProjection> findIdentitiesByEmailInOrMobileNumberIn(@Param("emails") Collection<String> emails,
+                                                                       @Param("mobileNumbers")
+                                                                       Collection<String> mobileNumbers);
 
 }
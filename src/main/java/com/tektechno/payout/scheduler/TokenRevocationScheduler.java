@@ -0,0 +1,33 @@
+package com.tektechno.payout.scheduler;
+
+import com.tektechno.payout.service.TokenRevocationService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * This is a token revocation scheduler class.
+ */
+@Component
+public class TokenRevocationScheduler {
+
+  @Autowired
+  private TokenRevocationService tokenRevocationService;
+
+  /**
+   * Adds token ids revoked on other nodes to this node's revocation filter.
+   */
+  @Scheduled(fixedDelayString = "${jwt.revocation.sync-interval-ms:30000}")
+  public void syncRevocations() {
+    tokenRevocationService.syncRecentRevocations();
+  }
+
+  /**
+   * Purges expired refresh and revoked token rows every night at 03:30 and rebuilds the filter.
+   */
+  @Scheduled(cron = "0 30 3 * * *")
+  public void purgeExpiredTokens() {
+    tokenRevocationService.purgeExpiredAndRebuild();
+  }
+
+}
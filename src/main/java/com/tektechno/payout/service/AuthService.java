@@ -1,6 +1,8 @@
 package com.tektechno.payout.service;
 
+import com.tektechno.payout.dto.request.BatchUserRegistrationDto;
 import com.tektechno.payout.dto.request.LogInRequestDto;
+import com.tektechno.payout.dto.request.RefreshTokenRequestDto;
 import com.tektechno.payout.dto.request.UserRegistrationDto;
 import org.springframework.http.ResponseEntity;
 
@@ -8,6 +10,10 @@ public interface AuthService {
 
   public ResponseEntity<?> createUser(UserRegistrationDto userRegistrationDto);
 
+  public ResponseEntity<?> createUsers(BatchUserRegistrationDto batchUserRegistrationDto);
+
   public ResponseEntity<?> loginUser(LogInRequestDto logInRequestDto);
 
+  public ResponseEntity<?> refreshToken(RefreshTokenRequestDto refreshTokenRequestDto);
+
 }
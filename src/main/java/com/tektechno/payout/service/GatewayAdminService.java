@@ -0,0 +1,14 @@
+package com.tektechno.payout.service;
+
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Operational views of the Cyrus gateway client for administrators.
+ */
+public interface GatewayAdminService {
+
+  public ResponseEntity<?> getResilienceState();
+
+  public ResponseEntity<?> getBulkQueueState();
+
+}
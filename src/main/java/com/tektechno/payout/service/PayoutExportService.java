@@ -0,0 +1,13 @@
+package com.tektechno.payout.service;
+
+import com.tektechno.payout.dto.request.TransactionSearchRequestDto;
+import com.tektechno.payout.enums.ExportFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+public interface PayoutExportService {
+
+  public ResponseEntity<StreamingResponseBody> exportTransactions(TransactionSearchRequestDto searchRequestDto,
+                                                                  ExportFormat format);
+
+}
@@ -3,31 +3,43 @@ package com.tektechno.payout.service;
 import com.tektechno.payout.dto.request.AddBeneficiaryRequestDto;
 import com.tektechno.payout.dto.request.AddBulkBeneficiaryRequestDto;
 import com.tektechno.payout.dto.request.SendMoneyRequestDto;
+import com.tektechno.payout.dto.request.TransactionSearchRequestDto;
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.multipart.MultipartFile;
 
 public interface PayoutService {
 
-  public ResponseEntity<?> getBeneType();
+  public CompletableFuture<ResponseEntity<?>> getBeneType(String ifNoneMatch);
 
-  public ResponseEntity<?> getPayReason();
+  public CompletableFuture<ResponseEntity<?>> getPayReason(String ifNoneMatch);
 
   public ResponseEntity<?> addBeneficiary(AddBeneficiaryRequestDto addBeneficiaryRequestDto);
 
   public ResponseEntity<?> updateBeneficiary(String beneficiaryIfscCode, String beneficiaryId);
 
-  public ResponseEntity<?> getBeneficiaryDetails(String beneficiaryMobileNumber);
+  public CompletableFuture<ResponseEntity<?>> getBeneficiaryDetails(String beneficiaryMobileNumber);
+
+  public ResponseEntity<?> searchBeneficiaries(String query, int limit);
 
   public ResponseEntity<?> sendMoney(SendMoneyRequestDto sendMoneyRequestDto);
 
+  public ResponseEntity<?> sendMoneyBatch(InputStream body, String memberId);
+
   public ResponseEntity<?> getTransactionDetails(String beneficiaryId, int pageNumber, int pageSize);
 
-  public ResponseEntity<?> checkStatus(String orderId);
+  public CompletableFuture<ResponseEntity<?>> checkStatus(String orderId);
+
+  public ResponseEntity<?> checkStatusBatch(List<String> orderIds);
 
   public ResponseEntity<?> getBeneficiaryList(int pageNumber, int pageSize);
 
   public ResponseEntity<?> getAllPayoutTransaction(int pageNumber, int pageSize);
 
+  public ResponseEntity<?> searchTransactions(TransactionSearchRequestDto transactionSearchRequestDto);
+
   public ResponseEntity<?> uploadBulkBeneficiary(MultipartFile file,
                                                  AddBulkBeneficiaryRequestDto addBulkBeneficiaryRequestDto);
 
@@ -0,0 +1,15 @@
+package com.tektechno.payout.service;
+
+import com.tektechno.payout.model.SendMoneyHistory;
+import java.time.LocalDate;
+import org.springframework.http.ResponseEntity;
+
+public interface PayoutSummaryService {
+
+  public void recordTransaction(SendMoneyHistory sendMoneyHistory);
+
+  public void recordStatusChange(SendMoneyHistory sendMoneyHistory, String previousStatus);
+
+  public ResponseEntity<?> getDailySummary(LocalDate fromDate, LocalDate toDate);
+
+}
@@ -0,0 +1,15 @@
+package com.tektechno.payout.service;
+
+import java.util.Date;
+
+public interface TokenRevocationService {
+
+  public boolean isRevoked(String tokenId);
+
+  public void revoke(String tokenId, String reason, Date expiresAt);
+
+  public void syncRecentRevocations();
+
+  public void purgeExpiredAndRebuild();
+
+}
@@ -3,25 +3,43 @@ package com.tektechno.payout.serviceimpl;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.tektechno.payout.dto.jwt.JwtPayloadDto;
+import com.tektechno.payout.dto.request.BatchUserRegistrationDto;
 import com.tektechno.payout.dto.request.LogInRequestDto;
+import com.tektechno.payout.dto.request.RefreshTokenRequestDto;
 import com.tektechno.payout.dto.request.UserRegistrationDto;
 import com.tektechno.payout.dto.response.LogInUserResponseDto;
+import com.tektechno.payout.dto.response.UserRegistrationResultDto;
 import com.tektechno.payout.dto.response.UserResponseDto;
 import com.tektechno.payout.enums.TokenType;
+import com.tektechno.payout.exceptions.ServiceBusyException;
+import com.tektechno.payout.model.RefreshToken;
 import com.tektechno.payout.model.Users;
+import com.tektechno.payout.projection.UserIdentityProjection;
+import com.tektechno.payout.repository.RefreshTokenRepo;
 import com.tektechno.payout.repository.UserRepository;
 import com.tektechno.payout.response.BaseResponse;
 import com.tektechno.payout.service.AuthService;
+import com.tektechno.payout.service.TokenRevocationService;
 import com.tektechno.payout.utilities.JwtAuthUtils;
+import com.tektechno.payout.utilities.PasswordHashingExecutor;
+import com.tektechno.payout.utilities.UserProfileCache;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -34,7 +52,7 @@ public class AuthServiceImpl implements AuthService {
   private UserRepository userRepository;
 
   @Autowired
-  private PasswordEncoder passwordEncoder;
+  private PasswordHashingExecutor passwordHashingExecutor;
 
   @Autowired
   private BaseResponse baseResponse;
@@ -42,33 +60,166 @@ public class AuthServiceImpl implements AuthService {
   @Autowired
   private ObjectMapper objectMapper;
 
+  @Autowired
+  private RefreshTokenRepo refreshTokenRepo;
+
+  @Autowired
+  private TokenRevocationService tokenRevocationService;
+
+  @Autowired
+  private UserProfileCache userProfileCache;
+
   private static final Logger logger = LoggerFactory.getLogger(AuthServiceImpl.class);
 
+  /**
+   * Registers a user with a single insert. The unique constraints on email and mobile number are
+   * the uniqueness check; only when the insert is rejected is one combined lookup made to report
+   * which value is taken, with the same messages and precedence as before.
+   *
+   * @param userRegistrationDto @{@link UserRegistrationDto}
+   * @return @{@link ResponseEntity}
+   */
   @Override
   public ResponseEntity<?> createUser(UserRegistrationDto userRegistrationDto) {
     try {
-      if (userRepository.existsByEmail(userRegistrationDto.getEmail())) {
-        logger.info("Email already exists With This Email = {}", userRegistrationDto.getEmail());
-        return baseResponse.errorResponse(HttpStatus.BAD_REQUEST, "Email already exists");
-      }
-
-      if (userRepository.existsByMobileNumber(userRegistrationDto.getMobileNumber())) {
-        logger.info("Mobile Number already exists With This Mobile Number = {}", userRegistrationDto.getMobileNumber());
-        return baseResponse.errorResponse(HttpStatus.BAD_REQUEST, "Mobile Number already exists");
-      }
-
       Users users = objectMapper.convertValue(userRegistrationDto, Users.class);
-      users.setPassword(passwordEncoder.encode(users.getPassword()));
+      users.setPassword(passwordHashingExecutor.encode(users.getPassword()));
       Users savedUser = userRepository.save(users);
       logger.info("User Created Successfully = {}", savedUser.getEmail());
       return baseResponse.successResponse("User Created Successfully");
 
+    } catch (DataIntegrityViolationException ex) {
+      String conflict = findRegistrationConflict(userRegistrationDto);
+      if (conflict == null) {
+        logger.error("Error at creating user = {}", ex.getMessage());
+        return baseResponse.errorResponse(HttpStatus.INTERNAL_SERVER_ERROR, "Error at creating user");
+      }
+      logger.info("{} With This Email = {}, Mobile Number = {}", conflict, userRegistrationDto.getEmail(),
+          userRegistrationDto.getMobileNumber());
+      return baseResponse.errorResponse(HttpStatus.BAD_REQUEST, conflict);
+    } catch (ServiceBusyException ex) {
+      return baseResponse.errorResponse(HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage());
     } catch (Exception ex) {
       logger.error("Error at creating user = {}", ex.getMessage());
       return baseResponse.errorResponse(HttpStatus.INTERNAL_SERVER_ERROR, "Error at creating user");
     }
   }
 
+  /**
+   * Registers a batch of users. Uniqueness is validated set-wise: duplicates inside the batch are
+   * detected in memory and clashes with existing users are found with one query for the whole
+   * batch. Accepted users are inserted together; if a concurrent registration makes the batch
+   * insert fail, the remaining users are inserted one by one so only the clashing entries fail.
+   *
+   * @param batchUserRegistrationDto @{@link BatchUserRegistrationDto}
+   * @return @{@link ResponseEntity}
+   */
+  @Override
+  public ResponseEntity<?> createUsers(BatchUserRegistrationDto batchUserRegistrationDto) {
+    List<UserRegistrationDto> registrations = batchUserRegistrationDto.getUsers();
+    try {
+      logger.info("Batch registration requested for {} user(s)", registrations.size());
+
+      Set<String> emails = new HashSet<>();
+      Set<String> mobileNumbers = new HashSet<>();
+      registrations.forEach(dto -> {
+        emails.add(dto.getEmail());
+        mobileNumbers.add(dto.getMobileNumber());
+      });
+
+      Set<String> existingEmails = new HashSet<>();
+      Set<String> existingMobileNumbers = new HashSet<>();
+      userRepository.findIdentitiesByEmailInOrMobileNumberIn(emails, mobileNumbers).forEach(identity -> {
+        existingEmails.add(identity.getEmail());
+        existingMobileNumbers.add(identity.getMobileNumber());
+      });
+
+      UserRegistrationResultDto[] results = new UserRegistrationResultDto[registrations.size()];
+      Set<String> batchEmails = new HashSet<>();
+      Set<String> batchMobileNumbers = new HashSet<>();
+      List<Integer> acceptedIndexes = new ArrayList<>();
+      List<Users> acceptedUsers = new ArrayList<>();
+
+      for (int i = 0; i < registrations.size(); i++) {
+        UserRegistrationDto dto = registrations.get(i);
+        String conflict = null;
+        if (existingEmails.contains(dto.getEmail()) || !batchEmails.add(dto.getEmail())) {
+          conflict = "Email already exists";
+        } else if (existingMobileNumbers.contains(dto.getMobileNumber())
+            || !batchMobileNumbers.add(dto.getMobileNumber())) {
+          conflict = "Mobile Number already exists";
+        }
+        if (conflict != null) {
+          results[i] = new UserRegistrationResultDto(i, dto.getEmail(), false, conflict);
+          continue;
+        }
+
+        Users users = objectMapper.convertValue(dto, Users.class);
+        users.setPassword(passwordHashingExecutor.encode(users.getPassword()));
+        acceptedIndexes.add(i);
+        acceptedUsers.add(users);
+      }
+
+      try {
+        userRepository.saveAll(acceptedUsers);
+        acceptedIndexes.forEach(i ->
+            results[i] = new UserRegistrationResultDto(i, registrations.get(i).getEmail(), true,
+                "User Created Successfully"));
+      } catch (DataIntegrityViolationException e) {
+        logger.warn("Batch insert hit a concurrent registration, inserting users individually");
+        for (int j = 0; j < acceptedIndexes.size(); j++) {
+          int i = acceptedIndexes.get(j);
+          results[i] = saveIndividually(i, registrations.get(i), acceptedUsers.get(j));
+        }
+      }
+
+      List<UserRegistrationResultDto> resultList = List.of(results);
+      long created = resultList.stream().filter(UserRegistrationResultDto::isCreated).count();
+      logger.info("Batch registration finished. Created: {}, Rejected: {}", created, resultList.size() - created);
+
+      Map<String, Object> response = new HashMap<>();
+      response.put("created", created);
+      response.put("rejected", resultList.size() - created);
+      response.put("results", resultList);
+      return baseResponse.successResponse(response);
+
+    } catch (ServiceBusyException ex) {
+      return baseResponse.errorResponse(HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage());
+    } catch (Exception ex) {
+      logger.error("Error at batch user registration = {}", ex.getMessage(), ex);
+      return baseResponse.errorResponse(HttpStatus.INTERNAL_SERVER_ERROR, "Error at creating users");
+    }
+  }
+
+  private UserRegistrationResultDto saveIndividually(int index, UserRegistrationDto dto, Users users) {
+    try {
+      users.setId(null);
+      userRepository.save(users);
+      return new UserRegistrationResultDto(index, dto.getEmail(), true, "User Created Successfully");
+    } catch (DataIntegrityViolationException e) {
+      String conflict = findRegistrationConflict(dto);
+      return new UserRegistrationResultDto(index, dto.getEmail(), false,
+          conflict != null ? conflict : "Error at creating user");
+    }
+  }
+
+  /**
+   * Returns the message for the unique value already taken by another user, checking email first,
+   * or null when neither is taken.
+   */
+  private String findRegistrationConflict(UserRegistrationDto userRegistrationDto) {
+    List<UserIdentityProjection> identities = userRepository.findIdentitiesByEmailOrMobileNumber(
+        userRegistrationDto.getEmail(), userRegistrationDto.getMobileNumber());
+    if (identities.stream().anyMatch(identity -> userRegistrationDto.getEmail().equals(identity.getEmail()))) {
+      return "Email already exists";
+    }
+    if (identities.stream().anyMatch(identity ->
+        userRegistrationDto.getMobileNumber().equals(identity.getMobileNumber()))) {
+      return "Mobile Number already exists";
+    }
+    return null;
+  }
+
   @Override
   public ResponseEntity<?> loginUser(LogInRequestDto logInRequestDto) {
     try {
@@ -83,23 +234,21 @@ public class AuthServiceImpl implements AuthService {
 
       Users users = optionalUsers.get();
 
-      if (!passwordEncoder.matches(logInRequestDto.getPassword(), users.getPassword())) {
+      if (!passwordHashingExecutor.matches(logInRequestDto.getPassword(), users.getPassword())) {
         logger.warn("Login failed - incorrect password for email: {}", logInRequestDto.getEmail());
         return baseResponse.errorResponse(HttpStatus.BAD_REQUEST, "Incorrect email or password");
       }
 
-      logger.info("Login successful for email: {}", logInRequestDto.getEmail());
-
-      UserResponseDto userResponseDto = objectMapper.convertValue(users, UserResponseDto.class);
+      if (passwordHashingExecutor.needsRehash(users.getPassword())) {
+        rehashPassword(users, logInRequestDto.getPassword());
+      }
 
-      LogInUserResponseDto logInUserResponseDto = new LogInUserResponseDto(
-          generateJwtToken(createJwtPayloadDto(users, false)),
-          generateRefreshJwtToken(createJwtPayloadDto(users, true)),
-          userResponseDto
-      );
+      logger.info("Login successful for email: {}", logInRequestDto.getEmail());
 
-      return baseResponse.successResponse(logInUserResponseDto);
+      return baseResponse.successResponse(issueTokens(users, UUID.randomUUID().toString()));
 
+    } catch (ServiceBusyException e) {
+      return baseResponse.errorResponse(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage());
     } catch (Exception e) {
       logger.error("Exception during login for email: {}. Error: {}", logInRequestDto.getEmail(), e.getMessage(), e);
       return baseResponse.errorResponse(HttpStatus.INTERNAL_SERVER_ERROR,
@@ -107,8 +256,111 @@ public class AuthServiceImpl implements AuthService {
     }
   }
 
-  private JwtPayloadDto createJwtPayloadDto(Users users, boolean rt) {
+  /**
+   * Exchanges a refresh token for a new access token and a new refresh token (rotation).
+   * Each refresh token can be exchanged once. Presenting an already exchanged refresh token is
+   * treated as token theft: the whole token family issued from that login is revoked, which also
+   * invalidates the access tokens issued from it.
+   *
+   * @param refreshTokenRequestDto @{@link RefreshTokenRequestDto}
+   * @return @{@link ResponseEntity}
+   */
+  @Override
+  public ResponseEntity<?> refreshToken(RefreshTokenRequestDto refreshTokenRequestDto) {
+    try {
+      JwtPayloadDto payload;
+      try {
+        payload = jwtAuthUtils.decodeToken(refreshTokenRequestDto.getRefreshToken());
+      } catch (Exception e) {
+        logger.warn("Refresh failed - invalid or expired refresh token. Error: {}", e.getMessage());
+        return baseResponse.errorResponse(HttpStatus.UNAUTHORIZED, "Invalid or expired refresh token");
+      }
+
+      if (!TokenType.RT.name().equals(payload.getTokenType())
+          || payload.getTokenId() == null || payload.getFamilyId() == null) {
+        logger.warn("Refresh failed - token is not a rotatable refresh token. UserId: {}", payload.getUserId());
+        return baseResponse.errorResponse(HttpStatus.UNAUTHORIZED, "Invalid or expired refresh token");
+      }
+
+      if (tokenRevocationService.isRevoked(payload.getFamilyId())) {
+        logger.warn("Refresh failed - token family revoked. UserId: {}, FamilyId: {}",
+            payload.getUserId(), payload.getFamilyId());
+        return baseResponse.errorResponse(HttpStatus.UNAUTHORIZED, "Refresh token has been revoked");
+      }
+
+      Optional<RefreshToken> optionalRefreshToken = refreshTokenRepo.findByTokenId(payload.getTokenId());
+      if (optionalRefreshToken.isEmpty()) {
+        logger.warn("Refresh failed - unknown refresh token. UserId: {}", payload.getUserId());
+        return baseResponse.errorResponse(HttpStatus.UNAUTHORIZED, "Invalid or expired refresh token");
+      }
+
+      if (refreshTokenRepo.markUsed(payload.getTokenId()) == 0) {
+        logger.warn("Refresh token reuse detected, revoking token family. UserId: {}, FamilyId: {}",
+            payload.getUserId(), payload.getFamilyId());
+        tokenRevocationService.revoke(payload.getFamilyId(), "REFRESH_TOKEN_REUSE",
+            new Date(System.currentTimeMillis() + jwtAuthUtils.getRefreshTokenTtlMillis()));
+        return baseResponse.errorResponse(HttpStatus.UNAUTHORIZED,
+            "Refresh token has already been used. Please log in again");
+      }
+
+      Optional<Users> optionalUsers = userRepository.findById(optionalRefreshToken.get().getUserId())
+          .filter(Users::isStatus);
+      if (optionalUsers.isEmpty()) {
+        logger.warn("Refresh failed - user not found or inactive. UserId: {}", payload.getUserId());
+        return baseResponse.errorResponse(HttpStatus.UNAUTHORIZED, "User not found or account is inactive");
+      }
+
+      logger.info("Refresh token rotated for userId: {}", payload.getUserId());
+      return baseResponse.successResponse(issueTokens(optionalUsers.get(), payload.getFamilyId()));
+
+    } catch (Exception e) {
+      logger.error("Exception during token refresh. Error: {}", e.getMessage(), e);
+      return baseResponse.errorResponse(HttpStatus.INTERNAL_SERVER_ERROR,
+          "An unexpected error occurred during token refresh. Please try again later.");
+    }
+  }
+
+  /**
+   * Re-hashes the password with the configured BCrypt cost after a successful login. A busy pool
+   * or a failed save only postpones the upgrade to the next login.
+   */
+  private void rehashPassword(Users users, String rawPassword) {
+    try {
+      users.setPassword(passwordHashingExecutor.encode(rawPassword));
+      userRepository.save(users);
+      userProfileCache.invalidate(users.getId());
+      logger.info("Password rehashed with the configured cost for email: {}", users.getEmail());
+    } catch (Exception e) {
+      logger.warn("Password rehash skipped for email: {}. Error: {}", users.getEmail(), e.getMessage());
+    }
+  }
+
+  /**
+   * Issues an access token and a refresh token in the given token family and records the refresh
+   * token so that it can be exchanged exactly once.
+   */
+  private LogInUserResponseDto issueTokens(Users users, String familyId) throws JsonProcessingException {
+    JwtPayloadDto refreshPayload = createJwtPayloadDto(users, true, familyId);
+
+    RefreshToken refreshToken = new RefreshToken();
+    refreshToken.setTokenId(refreshPayload.getTokenId());
+    refreshToken.setFamilyId(familyId);
+    refreshToken.setUserId(users.getId());
+    refreshToken.setExpiresAt(new Date(System.currentTimeMillis() + jwtAuthUtils.getRefreshTokenTtlMillis()));
+    refreshTokenRepo.save(refreshToken);
+
+    UserResponseDto userResponseDto = objectMapper.convertValue(users, UserResponseDto.class);
+    return new LogInUserResponseDto(
+        generateJwtToken(createJwtPayloadDto(users, false, familyId)),
+        generateRefreshJwtToken(refreshPayload),
+        userResponseDto
+    );
+  }
+
+  private JwtPayloadDto createJwtPayloadDto(Users users, boolean rt, String familyId) {
     JwtPayloadDto jwtPayloadDto = new JwtPayloadDto();
+    jwtPayloadDto.setTokenId(UUID.randomUUID().toString());
+    jwtPayloadDto.setFamilyId(familyId);
     jwtPayloadDto.setUserId(String.valueOf(users.getId()));
     jwtPayloadDto.setEmailId(users.getEmail());
     jwtPayloadDto.setMobileNumber(users.getMobileNumber());
@@ -6,6 +6,7 @@ import com.tektechno.payout.dto.response.SendMoneyResponseDto;
 import com.tektechno.payout.model.SendMoneyHistory;
 import com.tektechno.payout.repository.SendMoneyHistoryRepo;
 import com.tektechno.payout.service.CallbackService;
+import com.tektechno.payout.service.PayoutSummaryService;
 import com.tektechno.payout.service.WalletBalanceService;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
@@ -24,6 +25,9 @@ public class CallbackServiceImpl implements CallbackService {
   @Autowired
   private WalletBalanceService walletBalanceService;
 
+  @Autowired
+  private PayoutSummaryService payoutSummaryService;
+
   @Autowired
   private ObjectMapper objectMapper;
 
@@ -49,6 +53,8 @@ public class CallbackServiceImpl implements CallbackService {
         SendMoneyHistory sendMoneyHistory = optionalSendMoneyHistory.get();
         logger.debug("Updating SendMoneyHistory record for orderId: {}", webhookData.getOrderId());
 
+        String previousStatus = sendMoneyHistory.getStatus();
+
         // Update entity fields
         sendMoneyHistory.setStatus(status);
         sendMoneyHistory.setCyrusOrderId(webhookData.getCyrusOrderId());
@@ -62,6 +68,8 @@ public class CallbackServiceImpl implements CallbackService {
         sendMoneyHistoryRepo.save(sendMoneyHistory);
         logger.info("SendMoneyHistory record updated and saved for orderId: {}", webhookData.getOrderId());
 
+        payoutSummaryService.recordStatusChange(sendMoneyHistory, previousStatus);
+
         String memberId = sendMoneyHistory.getMemberId();
 
         if (walletBalanceService.updateWalletBalance(memberId, Double.parseDouble(webhookData.getOpening_bal()))) {
@@ -0,0 +1,112 @@
+package com.tektechno.payout.serviceimpl;
+
+import com.tektechno.payout.client.CyrusCallGroup;
+import com.tektechno.payout.client.CyrusLaneScheduler;
+import com.tektechno.payout.response.BaseResponse;
+import com.tektechno.payout.service.GatewayAdminService;
+import com.tektechno.payout.utilities.BulkPayoutScheduler;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+@Service
+public class GatewayAdminServiceImpl implements GatewayAdminService {
+
+  private static final Logger logger = LoggerFactory.getLogger(GatewayAdminServiceImpl.class);
+
+  @Autowired
+  private BaseResponse baseResponse;
+
+  @Autowired
+  private CircuitBreakerRegistry circuitBreakerRegistry;
+
+  @Autowired
+  private BulkheadRegistry bulkheadRegistry;
+
+  @Autowired
+  private CyrusLaneScheduler cyrusLaneScheduler;
+
+  @Autowired
+  private BulkPayoutScheduler bulkPayoutScheduler;
+
+  /**
+   * Returns the state and recent metrics of every Cyrus circuit breaker, call-group bulkhead and lane.
+   *
+   * @return @{@link ResponseEntity}
+   */
+  @Override
+  public ResponseEntity<?> getResilienceState() {
+    try {
+      List<Map<String, Object>> circuitBreakers = new ArrayList<>();
+      circuitBreakerRegistry.getAllCircuitBreakers().stream()
+          .sorted(Comparator.comparing(CircuitBreaker::getName))
+          .forEach(circuitBreaker -> {
+            CircuitBreaker.Metrics metrics = circuitBreaker.getMetrics();
+            Map<String, Object> state = new HashMap<>();
+            state.put("method", circuitBreaker.getName());
+            state.put("state", circuitBreaker.getState());
+            state.put("failureRate", metrics.getFailureRate());
+            state.put("slowCallRate", metrics.getSlowCallRate());
+            state.put("bufferedCalls", metrics.getNumberOfBufferedCalls());
+            state.put("failedCalls", metrics.getNumberOfFailedCalls());
+            state.put("slowCalls", metrics.getNumberOfSlowCalls());
+            state.put("notPermittedCalls", metrics.getNumberOfNotPermittedCalls());
+            circuitBreakers.add(state);
+          });
+
+      List<Map<String, Object>> bulkheads = new ArrayList<>();
+      for (CyrusCallGroup group : CyrusCallGroup.values()) {
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(group.getBulkheadName());
+        Map<String, Object> state = new HashMap<>();
+        state.put("group", group);
+        state.put("maxConcurrentCalls", bulkhead.getMetrics().getMaxAllowedConcurrentCalls());
+        state.put("availableConcurrentCalls", bulkhead.getMetrics().getAvailableConcurrentCalls());
+        bulkheads.add(state);
+      }
+
+      Map<String, Object> response = new HashMap<>();
+      response.put("circuitBreakers", circuitBreakers);
+      response.put("bulkheads", bulkheads);
+      response.put("lanes", cyrusLaneScheduler.snapshot());
+      return baseResponse.successResponse(response);
+
+    } catch (Exception e) {
+      logger.error("Exception occurred while reading gateway resilience state", e);
+      return baseResponse.errorResponse(HttpStatus.INTERNAL_SERVER_ERROR,
+          "Unable to read gateway resilience state");
+    }
+  }
+
+  /**
+   * Returns the bulk payout rows queued and running per member in the fair-share scheduler.
+   *
+   * @return @{@link ResponseEntity}
+   */
+  @Override
+  public ResponseEntity<?> getBulkQueueState() {
+    try {
+      Map<String, Object> response = new HashMap<>();
+      response.put("queuedRows", bulkPayoutScheduler.getQueuedRows());
+      response.put("members", bulkPayoutScheduler.snapshot());
+      return baseResponse.successResponse(response);
+
+    } catch (Exception e) {
+      logger.error("Exception occurred while reading bulk payout queue state", e);
+      return baseResponse.errorResponse(HttpStatus.INTERNAL_SERVER_ERROR,
+          "Unable to read bulk payout queue state");
+    }
+  }
+
+}
@@ -0,0 +1,338 @@
+package com.tektechno.payout.serviceimpl;
+
+import com.tektechno.payout.dto.request.TransactionSearchRequestDto;
+import com.tektechno.payout.enums.ExportFormat;
+import com.tektechno.payout.service.PayoutExportService;
+import com.tektechno.payout.utilities.StringUtils;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import javax.sql.DataSource;
+import org.apache.poi.ss.SpreadsheetVersion;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Streams payout history exports straight from a server-side JDBC cursor to the HTTP response.
+ * The query runs inside a read-only transaction (Postgres only honours the fetch size when
+ * auto-commit is off) with a forward-only, read-only result set, and each row is written out as soon
+ * as it is read. XLSX exports use an {@link SXSSFWorkbook} that keeps only a bounded window of rows in
+ * memory and flushes the rest to a temporary file, so memory stays flat regardless of export size;
+ * exports beyond the XLSX row limit continue on additional sheets.
+ */
+@Service
+public class PayoutExportServiceImpl implements PayoutExportService {
+
+  private static final String XLSX_CONTENT_TYPE = "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
+
+  private static final String[] COLUMNS = {
+      "Order ID", "Beneficiary ID", "Beneficiary Name", "Member ID", "Status", "Amount", "Transfer Type",
+      "Bulk Transaction ID", "Cyrus Order ID", "RRN Number", "Charged Amount", "Created At"
+  };
+
+  private static final String BASE_QUERY = "SELECT h.id, h.order_id, h.beneficiary_id, b.beneficiary_name, "
+      + "h.member_id, h.status, h.amount, h.transfer_type, h.bulk_transaction_id, h.cyrus_order_id, "
+      + "h.rrn_number, h.charged_amount, h.created_at "
+      + "FROM tektechno.send_money_history h "
+      + "LEFT JOIN tektechno.beneficiary b ON b.beneficiary_id = h.beneficiary_id";
+
+  private static final Logger logger = LoggerFactory.getLogger(PayoutExportServiceImpl.class);
+
+  @Value("${payout.export.fetch-size:1000}")
+  private int fetchSize;
+
+  @Value("${payout.export.xlsx-row-window:100}")
+  private int xlsxRowWindow;
+
+  @Autowired
+  private DataSource dataSource;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  @Override
+  public ResponseEntity<StreamingResponseBody> exportTransactions(TransactionSearchRequestDto searchRequestDto,
+                                                                  ExportFormat format) {
+    logger.info("📤 Export of payout transactions requested. Format: {}, Filters: {}", format, searchRequestDto);
+
+    String fileName = "payout-transactions-" + new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date());
+    StreamingResponseBody body = outputStream -> streamRows(searchRequestDto, format, outputStream);
+
+    if (format == ExportFormat.XLSX) {
+      return ResponseEntity.ok()
+          .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + ".xlsx\"")
+          .contentType(MediaType.parseMediaType(XLSX_CONTENT_TYPE))
+          .body(body);
+    }
+
+    return ResponseEntity.ok()
+        .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + ".csv\"")
+        .contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+        .body(body);
+  }
+
+  private void streamRows(TransactionSearchRequestDto searchRequestDto, ExportFormat format,
+                          OutputStream outputStream) throws IOException {
+    long start = System.currentTimeMillis();
+    List<Object> params = new ArrayList<>();
+    String sql = buildQuery(searchRequestDto, params);
+
+    JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+    jdbcTemplate.setFetchSize(fetchSize);
+
+    TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+    transactionTemplate.setReadOnly(true);
+
+    try (ExportWriter writer = format == ExportFormat.XLSX
+        ? new XlsxExportWriter(outputStream, xlsxRowWindow)
+        : new CsvExportWriter(outputStream)) {
+
+      writer.writeRow(COLUMNS);
+      long rowCount = transactionTemplate.execute(status -> {
+        long[] count = {0};
+        jdbcTemplate.query(connection -> {
+          PreparedStatement statement = connection.prepareStatement(sql,
+              ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+          for (int i = 0; i < params.size(); i++) {
+            statement.setObject(i + 1, params.get(i));
+          }
+          return statement;
+        }, resultSet -> {
+          writer.writeRow(toCells(resultSet));
+          count[0]++;
+        });
+        return count[0];
+      });
+      writer.finish();
+
+      logger.info("✅ Exported {} payout transaction(s) as {} in {} ms",
+          rowCount, format, System.currentTimeMillis() - start);
+    } catch (UncheckedIOException e) {
+      logger.warn("⚠️ Export aborted while writing to client: {}", e.getMessage());
+      throw e.getCause();
+    } catch (DataAccessException e) {
+      logger.error("❌ Export aborted after the query failed: {}", e.getMessage());
+      throw e;
+    }
+  }
+
+  private String buildQuery(TransactionSearchRequestDto searchRequestDto, List<Object> params) {
+    List<String> conditions = new ArrayList<>();
+
+    if (StringUtils.isNotNullAndNotEmpty(searchRequestDto.getMemberId())) {
+      conditions.add("h.member_id = ?");
+      params.add(searchRequestDto.getMemberId());
+    }
+    if (StringUtils.isNotNullAndNotEmpty(searchRequestDto.getStatus())) {
+      conditions.add("h.status = ?");
+      params.add(searchRequestDto.getStatus());
+    }
+    if (StringUtils.isNotNullAndNotEmpty(searchRequestDto.getTransferType())) {
+      conditions.add("h.transfer_type = ?");
+      params.add(searchRequestDto.getTransferType());
+    }
+    if (StringUtils.isNotNullAndNotEmpty(searchRequestDto.getBulkTransactionId())) {
+      conditions.add("h.bulk_transaction_id = ?");
+      params.add(searchRequestDto.getBulkTransactionId());
+    }
+    if (searchRequestDto.getFromDate() != null) {
+      conditions.add("h.created_at >= ?");
+      params.add(new Timestamp(searchRequestDto.getFromDate().getTime()));
+    }
+    if (searchRequestDto.getToDate() != null) {
+      conditions.add("h.created_at < ?");
+      params.add(new Timestamp(searchRequestDto.getToDate().getTime()));
+    }
+    if (searchRequestDto.getMinAmount() != null) {
+      conditions.add("h.amount >= ?");
+      params.add(searchRequestDto.getMinAmount());
+    }
+    if (searchRequestDto.getMaxAmount() != null) {
+      conditions.add("h.amount <= ?");
+      params.add(searchRequestDto.getMaxAmount());
+    }
+
+    StringBuilder sql = new StringBuilder(BASE_QUERY);
+    if (!conditions.isEmpty()) {
+      sql.append(" WHERE ").append(String.join(" AND ", conditions));
+    }
+    return sql.append(" ORDER BY h.created_at DESC, h.id DESC").toString();
+  }
+
+  private static String[] toCells(ResultSet resultSet) throws SQLException {
+    Timestamp createdAt = resultSet.getTimestamp("created_at");
+    return new String[] {
+        resultSet.getString("order_id"),
+        resultSet.getString("beneficiary_id"),
+        resultSet.getString("beneficiary_name"),
+        resultSet.getString("member_id"),
+        resultSet.getString("status"),
+        resultSet.getString("amount"),
+        resultSet.getString("transfer_type"),
+        resultSet.getString("bulk_transaction_id"),
+        resultSet.getString("cyrus_order_id"),
+        resultSet.getString("rrn_number"),
+        resultSet.getString("charged_amount"),
+        createdAt == null ? null : createdAt.toInstant().toString()
+    };
+  }
+
+  /**
+   * Writes export rows. {@link #finish()} is called only once every row has been written; closing a
+   * writer that was never finished releases its resources without completing the file, so a query
+   * that fails partway aborts the response instead of producing a silently truncated export.
+   */
+  private interface ExportWriter extends AutoCloseable {
+
+    void writeRow(String[] cells);
+
+    void finish() throws IOException;
+
+    @Override
+    void close() throws IOException;
+  }
+
+  private static final class CsvExportWriter implements ExportWriter {
+
+    private static final String FORMULA_PREFIXES = "=+-@";
+
+    private final Writer writer;
+
+    private CsvExportWriter(OutputStream outputStream) {
+      this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), 64 * 1024);
+    }
+
+    @Override
+    public void writeRow(String[] cells) {
+      try {
+        for (int i = 0; i < cells.length; i++) {
+          if (i > 0) {
+            writer.write(',');
+          }
+          writer.write(escape(cells[i]));
+        }
+        writer.write("\r\n");
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    /**
+     * Quotes a value when needed and prefixes values starting with a formula character with a single
+     * quote, so user-supplied text (e.g. beneficiary names from uploaded sheets) is never evaluated
+     * as a formula when the CSV is opened in a spreadsheet.
+     */
+    private static String escape(String value) {
+      if (value == null) {
+        return "";
+      }
+      if (!value.isEmpty() && FORMULA_PREFIXES.indexOf(value.charAt(0)) >= 0) {
+        value = "'" + value;
+      }
+      if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+        return value;
+      }
+      return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    @Override
+    public void finish() throws IOException {
+      writer.flush();
+    }
+
+    @Override
+    public void close() {
+      // Buffered rows of an unfinished export are dropped rather than flushed.
+    }
+  }
+
+  /**
+   * Writes rows to XLSX. A sheet holds at most 1,048,576 rows ({@link SpreadsheetVersion#EXCEL2007}),
+   * so larger exports continue on further sheets, each starting with the header row.
+   */
+  private static final class XlsxExportWriter implements ExportWriter {
+
+    private static final String SHEET_NAME = "Payout Transactions";
+
+    private static final int MAX_ROWS_PER_SHEET = SpreadsheetVersion.EXCEL2007.getMaxRows();
+
+    private final OutputStream outputStream;
+
+    private final SXSSFWorkbook workbook;
+
+    private Sheet sheet;
+
+    private String[] header;
+
+    private int rowIndex;
+
+    private XlsxExportWriter(OutputStream outputStream, int rowWindow) {
+      this.outputStream = outputStream;
+      this.workbook = new SXSSFWorkbook(rowWindow);
+      this.workbook.setCompressTempFiles(true);
+      this.sheet = workbook.createSheet(SHEET_NAME);
+    }
+
+    @Override
+    public void writeRow(String[] cells) {
+      if (header == null) {
+        header = cells;
+      } else if (rowIndex >= MAX_ROWS_PER_SHEET) {
+        sheet = workbook.createSheet(SHEET_NAME + " " + (workbook.getNumberOfSheets() + 1));
+        rowIndex = 0;
+        writeCells(header);
+      }
+      writeCells(cells);
+    }
+
+    private void writeCells(String[] cells) {
+      Row row = sheet.createRow(rowIndex++);
+      for (int i = 0; i < cells.length; i++) {
+        if (cells[i] != null) {
+          row.createCell(i).setCellValue(cells[i]);
+        }
+      }
+    }
+
+    @Override
+    public void finish() throws IOException {
+      workbook.write(outputStream);
+    }
+
+    @Override
+    public void close() throws IOException {
+      try {
+        workbook.dispose();
+      } finally {
+        workbook.close();
+      }
+    }
+  }
+
+}
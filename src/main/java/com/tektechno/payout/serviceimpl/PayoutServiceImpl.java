@@ -1,15 +1,24 @@
 package com.tektechno.payout.serviceimpl;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tektechno.payout.client.CyrusCallGroup;
+import com.tektechno.payout.client.CyrusClient;
+import com.tektechno.payout.client.SendMoneyRetryExecutor;
+import com.tektechno.payout.client.CyrusReferenceDataCache;
 import com.tektechno.payout.constant.CyrusApiConstant;
 import com.tektechno.payout.dto.request.AddBeneficiaryRequestDto;
 import com.tektechno.payout.dto.request.AddBulkBeneficiaryRequestDto;
 import com.tektechno.payout.dto.request.SendMoneyRequestDto;
+import com.tektechno.payout.dto.request.TransactionSearchRequestDto;
 import com.tektechno.payout.dto.response.AddBeneficiaryResponseDto;
-import com.tektechno.payout.dto.response.BeneficiaryDetailsDto;
+import com.tektechno.payout.dto.response.BeneficiarySearchResultDto;
 import com.tektechno.payout.dto.response.SendMoneyHistoryResponseDto;
 import com.tektechno.payout.dto.response.SendMoneyResponseDto;
 import com.tektechno.payout.enums.BulkPaymentStatus;
+import com.tektechno.payout.exceptions.CyrusUnavailableException;
 import com.tektechno.payout.model.Beneficiary;
 import com.tektechno.payout.model.BulkPaymentHistory;
 import com.tektechno.payout.model.BulkPaymentTransactionHistory;
@@ -20,20 +29,36 @@ import com.tektechno.payout.repository.BeneficiaryRepository;
 import com.tektechno.payout.repository.BulkPaymentHistoryRepo;
 import com.tektechno.payout.repository.BulkPaymentTransactionHistoryRepo;
 import com.tektechno.payout.repository.SendMoneyHistoryRepo;
+import com.tektechno.payout.repository.SendMoneyHistorySpecifications;
 import com.tektechno.payout.repository.WalletBalanceRepository;
 import com.tektechno.payout.response.BaseResponse;
 import com.tektechno.payout.service.PayoutService;
+import com.tektechno.payout.service.PayoutSummaryService;
+import com.tektechno.payout.utilities.AdaptiveConcurrencyLimiter;
+import com.tektechno.payout.utilities.BeneficiaryDetailsCache;
+import com.tektechno.payout.utilities.BeneficiarySearchIndex;
+import com.tektechno.payout.utilities.BulkPayoutScheduler;
+import com.tektechno.payout.utilities.DuplicatePayoutDetector;
 import com.tektechno.payout.utilities.ExcelHelper;
 import com.tektechno.payout.utilities.StringUtils;
-import jakarta.transaction.Transactional;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -43,16 +68,14 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
-import org.springframework.util.LinkedMultiValueMap;
-import org.springframework.util.MultiValueMap;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 @Service
@@ -61,9 +84,6 @@ public class PayoutServiceImpl implements PayoutService {
   @Value("${cyrus-api-member-id}")
   private String cyrusApiMemberId;
 
-  @Value("${cyrus-payout-api-key}")
-  private String cyrusPayoutApiKey;
-
   @Value("${cyrus-recharge-api-endpoint}")
   private String cyrusRechargeApiEndpoint;
 
@@ -89,86 +109,95 @@ public class PayoutServiceImpl implements PayoutService {
   private ObjectMapper objectMapper;
 
   @Autowired
-  private RestTemplate restTemplate;
-
-  private static final Logger logger = LoggerFactory.getLogger(PayoutServiceImpl.class);
-
-  @Override
-  public ResponseEntity<?> getBeneType() {
-    try {
-      String url = cyrusRechargeApiEndpoint + CyrusApiConstant.ADD_BENEFICIARY_URL;
-      logger.info("Calling Cyrus BENE_TYPE API at URL: {}", url);
-
-      MultiValueMap<String, String> formData = new LinkedMultiValueMap<>();
-      formData.add("MerchantID", cyrusApiMemberId);
-      formData.add("MerchantKey", cyrusPayoutApiKey);
-      formData.add("MethodName", "BENE_TYPE");
+  private CyrusClient cyrusClient;
 
-      logger.debug("Form Data: {}", formData);
+  @Autowired
+  private CyrusReferenceDataCache cyrusReferenceDataCache;
 
-      HttpHeaders headers = new HttpHeaders();
-      headers.setContentType(MediaType.MULTIPART_FORM_DATA);
+  @Autowired
+  private BeneficiarySearchIndex beneficiarySearchIndex;
 
-      HttpEntity<MultiValueMap<String, String>> requestEntity = new HttpEntity<>(formData, headers);
+  @Autowired
+  private BeneficiaryDetailsCache beneficiaryDetailsCache;
 
-      logger.info("Sending POST request to Cyrus API...");
+  @Autowired
+  private PayoutSummaryService payoutSummaryService;
 
-      ResponseEntity<String> response = restTemplate.exchange(url, HttpMethod.POST, requestEntity, String.class);
+  @Autowired
+  private AdaptiveConcurrencyLimiter sendMoneyConcurrencyLimiter;
 
-      logger.info("Received response with status code: {}", response.getStatusCode());
-      logger.debug("Raw Response Body: {}", response.getBody());
+  @Autowired
+  private BulkPayoutScheduler bulkPayoutScheduler;
 
-      Object resp = objectMapper.readValue(response.getBody(), Object.class);
+  @Autowired
+  private AdaptiveConcurrencyLimiter statusCheckConcurrencyLimiter;
 
-      return baseResponse.successResponse(resp);
+  @Autowired
+  private ExecutorService statusCheckExecutor;
 
-    } catch (Exception e) {
-      logger.error("Error occurred while calling Cyrus BENE_TYPE API", e);
-      return baseResponse.errorResponse(HttpStatus.INTERNAL_SERVER_ERROR,
-          "Something went wrong while fetching beneficiary types");
-    }
-  }
+  @Autowired
+  private SendMoneyRetryExecutor sendMoneyRetryExecutor;
 
-  @Override
-  public ResponseEntity<?> getPayReason() {
-    try {
-      String url = cyrusRechargeApiEndpoint + CyrusApiConstant.ADD_BENEFICIARY_URL;
-      logger.info("Calling Cyrus PAY_REASON API at URL: {}", url);
+  @Autowired
+  private DuplicatePayoutDetector duplicatePayoutDetector;
 
-      // Prepare form data
-      MultiValueMap<String, String> formData = new LinkedMultiValueMap<>();
-      formData.add("MerchantID", cyrusApiMemberId);
-      formData.add("MerchantKey", cyrusPayoutApiKey);
-      formData.add("MethodName", "PAY_REASON");
+  @Autowired
+  private PlatformTransactionManager transactionManager;
 
-      logger.debug("Prepared form data for PAY_REASON: {}", formData);
+  @Value("${payout.limiter.send-money.max-wait-ms:2000}")
+  private long sendMoneyMaxWaitMillis;
 
-      // Set headers
-      HttpHeaders headers = new HttpHeaders();
-      headers.setContentType(MediaType.MULTIPART_FORM_DATA);
+  @Value("${payout.batch.max-items:1000}")
+  private int maxBatchItems;
 
-      HttpEntity<MultiValueMap<String, String>> requestEntity = new HttpEntity<>(formData, headers);
+  @Value("${payout.status.batch.max-order-ids:1000}")
+  private int maxStatusBatchOrderIds;
 
-      logger.info("Sending POST request to Cyrus PAY_REASON API...");
+  @Value("${payout.status.terminal-statuses:SUCCESS,FAILED,FAILURE,REFUNDED}")
+  private Set<String> terminalStatuses;
 
-      ResponseEntity<String> response = restTemplate.exchange(url, HttpMethod.POST, requestEntity, String.class);
+  @Value("${payout.retry.send-money-budget-ms:30000}")
+  private long sendMoneyBudgetMillis;
 
-      logger.info("Received response from PAY_REASON API with status code: {}", response.getStatusCode());
-      logger.debug("PAY_REASON API raw response body: {}", response.getBody());
+  @Value("${payout.retry.bulk-budget-ms:90000}")
+  private long bulkSendMoneyBudgetMillis;
 
-      Object resp = objectMapper.readValue(response.getBody(), Object.class);
+  private static final Logger logger = LoggerFactory.getLogger(PayoutServiceImpl.class);
 
-      return baseResponse.successResponse(resp);
+  @Override
+  public CompletableFuture<ResponseEntity<?>> getBeneType(String ifNoneMatch) {
+    return referenceDataResponse(CyrusReferenceDataCache.BENE_TYPE, ifNoneMatch,
+        "Something went wrong while fetching beneficiary types");
+  }
 
-    } catch (Exception e) {
-      logger.error("Exception occurred while calling Cyrus PAY_REASON API", e);
-      return baseResponse.errorResponse(
-          HttpStatus.INTERNAL_SERVER_ERROR,
-          "Something went wrong while fetching pay reasons from Cyrus"
-      );
-    }
+  @Override
+  public CompletableFuture<ResponseEntity<?>> getPayReason(String ifNoneMatch) {
+    return referenceDataResponse(CyrusReferenceDataCache.PAY_REASON, ifNoneMatch,
+        "Something went wrong while fetching pay reasons from Cyrus");
   }
 
+  /**
+   * Serves a cached Cyrus reference list with its ETag, answering a matching {@code If-None-Match}
+   * with 304 Not Modified.
+   */
+  private CompletableFuture<ResponseEntity<?>> referenceDataResponse(String methodName, String ifNoneMatch,
+                                                                     String errorMessage) {
+    CacheControl cacheControl = CacheControl.maxAge(cyrusReferenceDataCache.getClientMaxAgeSeconds(), TimeUnit.SECONDS)
+        .cachePrivate();
+    return cyrusReferenceDataCache.get(methodName)
+        .<ResponseEntity<?>>thenApply(entry -> {
+          if (entry.matches(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(entry.etag()).cacheControl(cacheControl).build();
+          }
+          ResponseEntity<?> response = baseResponse.successResponse(entry.value());
+          return ResponseEntity.status(response.getStatusCode()).eTag(entry.etag()).cacheControl(cacheControl)
+              .body(response.getBody());
+        })
+        .exceptionally(e -> {
+          logger.error("Error occurred while loading Cyrus {} reference data", methodName, e);
+          return gatewayErrorResponse(e, errorMessage);
+        });
+  }
 
   @Transactional
   @Override
@@ -181,36 +210,17 @@ public class PayoutServiceImpl implements PayoutService {
       String address = objectMapper.writeValueAsString(requestDto.getAddress());
 
       // Prepare form data
-      MultiValueMap<String, String> formData = new LinkedMultiValueMap<>();
-      formData.add("MerchantID", cyrusApiMemberId);
-      formData.add("MerchantKey", cyrusPayoutApiKey);
-      formData.add("MethodName", "GET_BENEFICIARY");
-      formData.add("pay_type", "account_number");
-      formData.add("beneficiary_bank_account_number", requestDto.getBeneficiaryAccountNumber());
-      formData.add("beneficiary_bank_ifsc_code", requestDto.getBeneficiaryIfscCode());
-      formData.add("beneficiary_name", requestDto.getBeneficiaryName());
-      formData.add("beneficiary_email", requestDto.getBeneficiaryEmail());
-      formData.add("beneficiary_phone", requestDto.getBeneficiaryMobileNumber());
-      formData.add("beneficiary_pan", requestDto.getBeneficiaryPanNumber());
-      formData.add("beneficiary_aadhar", requestDto.getBeneficiaryAadhaarNumber());
-      formData.add("is_agreement_with_beneficiary", "YES");
-      formData.add("beneficiary_verification_status", "YES");
-      formData.add("beneficiary_address", address);
-      formData.add("bene_type", requestDto.getBeneType());
-      formData.add("latlong", requestDto.getLatitude() + "," + requestDto.getLongitude());
-      // Set headers
-      HttpHeaders headers = new HttpHeaders();
-      headers.setContentType(MediaType.MULTIPART_FORM_DATA);
-      HttpEntity<MultiValueMap<String, String>> requestEntity = new HttpEntity<>(formData, headers);
+      Map<String, String> formData = addBeneficiaryParams(requestDto, address);
 
       logger.info("Sending request to Cyrus API with payload: {}", formData);
 
       // Make API call
-      ResponseEntity<String> apiResponse = restTemplate.exchange(url, HttpMethod.POST, requestEntity, String.class);
-      logger.info("Received response from Cyrus API: {}", apiResponse.getBody());
+      String apiResponse = cyrusClient.postAndWait(CyrusCallGroup.REFERENCE, CyrusApiConstant.ADD_BENEFICIARY_URL,
+          "GET_BENEFICIARY", formData);
+      logger.info("Received response from Cyrus API: {}", apiResponse);
 
       // Convert response
-      AddBeneficiaryResponseDto responseDto = objectMapper.readValue(apiResponse.getBody(), AddBeneficiaryResponseDto.class);
+      AddBeneficiaryResponseDto responseDto = objectMapper.readValue(apiResponse, AddBeneficiaryResponseDto.class);
 
       // Process response
       if ("SUCCESS".equalsIgnoreCase(responseDto.getData().getStatus())) {
@@ -231,6 +241,8 @@ public class PayoutServiceImpl implements PayoutService {
         beneficiary.setLongitude(requestDto.getLongitude());
 
         beneficiaryRepository.save(beneficiary);
+        beneficiarySearchIndex.index(beneficiary);
+        beneficiaryDetailsCache.invalidate(beneficiary.getBeneficiaryMobileNumber());
         logger.info("Beneficiary saved to DB successfully. ID: {}", beneficiary.getBeneficiaryId());
 
         return baseResponse.successResponse(responseDto);
@@ -241,39 +253,28 @@ public class PayoutServiceImpl implements PayoutService {
 
     } catch (Exception e) {
       logger.error("Exception occurred while processing Add Beneficiary request", e);
-      return baseResponse.errorResponse(
-          HttpStatus.INTERNAL_SERVER_ERROR,
-          "Internal error occurred while adding beneficiary"
-      );
+      return gatewayErrorResponse(e, "Internal error occurred while adding beneficiary");
     }
   }
 
   @Override
   public ResponseEntity<?> updateBeneficiary(String beneficiaryIfscCode, String beneficiaryId) {
-    String url = cyrusRechargeApiEndpoint + CyrusApiConstant.ADD_BENEFICIARY_URL;
     logger.info("Initiating update IFSC request for Beneficiary ID: {}", beneficiaryId);
 
     try {
       // Prepare form data
-      MultiValueMap<String, String> formData = new LinkedMultiValueMap<>();
-      formData.add("MerchantID", cyrusApiMemberId);
-      formData.add("MerchantKey", cyrusPayoutApiKey);
-      formData.add("MethodName", "UPDATE_IFSC");
-      formData.add("beneficiary_bank_ifsc_code", beneficiaryIfscCode);
-      formData.add("beneficiary_id", beneficiaryId);
+      Map<String, String> formData = new LinkedHashMap<>();
+      formData.put("beneficiary_bank_ifsc_code", beneficiaryIfscCode);
+      formData.put("beneficiary_id", beneficiaryId);
 
       logger.debug("Form data for UPDATE_IFSC request: {}", formData);
 
-      // Set headers
-      HttpHeaders headers = new HttpHeaders();
-      headers.setContentType(MediaType.MULTIPART_FORM_DATA);
-      HttpEntity<MultiValueMap<String, String>> requestEntity = new HttpEntity<>(formData, headers);
-
       // Call external API
-      ResponseEntity<String> apiResponse = restTemplate.exchange(url, HttpMethod.POST, requestEntity, String.class);
+      String apiResponse = cyrusClient.postAndWait(CyrusCallGroup.REFERENCE, CyrusApiConstant.ADD_BENEFICIARY_URL,
+          "UPDATE_IFSC", formData);
 
       // Deserialize response
-      AddBeneficiaryResponseDto responseDto = objectMapper.readValue(apiResponse.getBody(), AddBeneficiaryResponseDto.class);
+      AddBeneficiaryResponseDto responseDto = objectMapper.readValue(apiResponse, AddBeneficiaryResponseDto.class);
 
       if ("UPDATED".equalsIgnoreCase(responseDto.getData().getStatus())) {
         Optional<Beneficiary> optionalBeneficiary = beneficiaryRepository.findByBeneficiaryId(beneficiaryId);
@@ -281,7 +282,10 @@ public class PayoutServiceImpl implements PayoutService {
         if (optionalBeneficiary.isPresent()) {
           Beneficiary beneficiary = optionalBeneficiary.get();
           beneficiary.setBeneficiaryBankIfscCode(beneficiaryIfscCode);
+          beneficiary.setDetailsSyncedAt(null);
           beneficiaryRepository.save(beneficiary);
+          beneficiarySearchIndex.index(beneficiary);
+          beneficiaryDetailsCache.invalidate(beneficiary.getBeneficiaryMobileNumber());
           logger.info("Beneficiary IFSC code updated successfully. ID: {}", beneficiaryId);
         } else {
           logger.warn("Beneficiary not found in DB for update. ID: {}", beneficiaryId);
@@ -296,75 +300,61 @@ public class PayoutServiceImpl implements PayoutService {
 
     } catch (Exception e) {
       logger.error("Exception occurred while updating beneficiary IFSC. ID: {}", beneficiaryId, e);
-      return baseResponse.errorResponse(HttpStatus.INTERNAL_SERVER_ERROR,
-          "Internal error while updating beneficiary");
+      return gatewayErrorResponse(e, "Internal error while updating beneficiary");
     }
   }
 
   @Override
-  public ResponseEntity<?> getBeneficiaryDetails(String beneficiaryMobileNumber) {
-    try {
-      logger.info("Fetching beneficiary details for mobile number: {}", beneficiaryMobileNumber);
-
-      String url = cyrusRechargeApiEndpoint + CyrusApiConstant.ADD_BENEFICIARY_URL;
+  public CompletableFuture<ResponseEntity<?>> getBeneficiaryDetails(String beneficiaryMobileNumber) {
+    logger.info("Fetching beneficiary details for mobile number: {}", beneficiaryMobileNumber);
+
+    return beneficiaryDetailsCache.get(beneficiaryMobileNumber)
+        .<ResponseEntity<?>>thenApply(baseResponse::successResponse)
+        .exceptionally(e -> {
+          logger.error("Exception occurred while fetching beneficiary details for mobile number: {}",
+              beneficiaryMobileNumber, e);
+          return gatewayErrorResponse(e, "An unexpected error occurred while fetching beneficiary details");
+        });
+  }
 
-      // Prepare form data
-      MultiValueMap<String, String> formData = new LinkedMultiValueMap<>();
-      formData.add("MerchantID", cyrusApiMemberId);
-      formData.add("MerchantKey", cyrusPayoutApiKey);
-      formData.add("MethodName", "BENEFICIARY_DETAILS");
-      formData.add("beneficiary_phone", beneficiaryMobileNumber);
+  @Override
+  public ResponseEntity<?> searchBeneficiaries(String query, int limit) {
+    try {
+      if (!beneficiarySearchIndex.isReady()) {
+        return baseResponse.errorResponse(HttpStatus.SERVICE_UNAVAILABLE,
+            "Beneficiary search is warming up. Please try again shortly.");
+      }
 
-      // Set headers
-      HttpHeaders headers = new HttpHeaders();
-      headers.setContentType(MediaType.MULTIPART_FORM_DATA);
-      HttpEntity<MultiValueMap<String, String>> requestEntity = new HttpEntity<>(formData, headers);
+      if (!beneficiarySearchIndex.isSearchable(query)) {
+        return baseResponse.errorResponse(HttpStatus.BAD_REQUEST, "Search query must contain at least "
+            + beneficiarySearchIndex.getMinQueryLength() + " characters");
+      }
 
-      // Call external API
-      ResponseEntity<String> apiResponse = restTemplate.exchange(url, HttpMethod.POST, requestEntity, String.class);
-
-      BeneficiaryDetailsDto response = objectMapper.readValue(apiResponse.getBody(), BeneficiaryDetailsDto.class);
-
-      //      Beneficiary beneficiary = new Beneficiary();
-      //      beneficiary.setBeneficiaryId(response.getData().getFirst().getBeneficiaryId());
-      //      beneficiary.setBeneType(response.getData().getFirst().getBeneType());
-      //      beneficiary.setBeneficiaryBankAccountNumber(response.getData().getFirst().getBankAccountNumber());
-      //      beneficiary.setBeneficiaryBankIfscCode(response.getData().getFirst().getBankIfscCode()); // Validate name != IFSC
-      //      beneficiary.setBeneficiaryBankName("");
-      //      beneficiary.setBeneficiaryName(response.getData().getFirst().getAccountHolderName());
-      //      beneficiary.setBeneficiaryEmail(response.getData().getFirst().getEmail());
-      //      beneficiary.setBeneficiaryMobileNumber(response.getData().getFirst().getPhone());
-      //      beneficiary.setBeneficiaryPan(response.getData().getFirst().getPan());
-      //      beneficiary.setBeneficiaryAadhaar(response.getData().getFirst().getAadhar());
-      //      String latLong = response.getData().getFirst().getLatLong();
-      //      if (latLong != null && latLong.contains(",")) {
-      //        String[] parts = latLong.split(",");
-      //        if (parts.length == 2) {
-      //          beneficiary.setLatitude(Long.valueOf(parts[0].trim()));
-      //          beneficiary.setLongitude(Long.valueOf(parts[1].trim()));
-      //        } else {
-      //          // Handle unexpected format
-      //          logger.warn("Invalid latLong format: {}", latLong);
-      //        }
-      //      } else {
-      //        // Handle null or missing latLong
-      //        logger.warn("latLong is null or does not contain ','");
-      //      }
-      //
-      //      beneficiary.setBeneficiaryAddress(response.getData().getFirst().getBeneficiaryAddress());
-      //      beneficiaryRepository.save(beneficiary);
+      if (limit <= 0 || limit > 50) {
+        logger.warn("⚠️ Invalid beneficiary search limit {} received. Resetting to default 10.", limit);
+        limit = 10;
+      }
 
-      return baseResponse.successResponse(response);
+      List<BeneficiarySearchResultDto> results = beneficiarySearchIndex.search(query, limit);
+      logger.debug("Beneficiary search for '{}' returned {} result(s)", query, results.size());
+      return baseResponse.successResponse(results);
 
     } catch (Exception e) {
-      logger.error("Exception occurred while fetching beneficiary details for mobile number: {}", beneficiaryMobileNumber, e);
+      logger.error("❌ Exception occurred while searching beneficiaries for query: {}", query, e);
       return baseResponse.errorResponse(HttpStatus.INTERNAL_SERVER_ERROR,
-          "An unexpected error occurred while fetching beneficiary details");
+          "An unexpected error occurred while searching beneficiaries");
     }
   }
 
+  /**
+   * Sends a single payout. The Cyrus call, its retries and their backoff run outside any transaction,
+   * so a payout never holds a database connection while waiting on Cyrus; the outcome is stored in a
+   * short transaction of its own.
+   *
+   * @param sendMoneyRequestDto @{@link SendMoneyRequestDto}
+   * @return @{@link ResponseEntity}
+   */
   @Override
-  @Transactional
   public ResponseEntity<?> sendMoney(SendMoneyRequestDto sendMoneyRequestDto) {
     String beneficiaryId = sendMoneyRequestDto.getBeneficiaryId();
     String url = cyrusRechargeApiEndpoint + CyrusApiConstant.SEND_MONEY_URL;
@@ -375,35 +365,48 @@ public class PayoutServiceImpl implements PayoutService {
       logger.debug("Cyrus API Endpoint: {}", url);
 
       // Prepare form data
-      MultiValueMap<String, String> formData = new LinkedMultiValueMap<>();
-      formData.add("MerchantID", cyrusApiMemberId);
-      formData.add("MerchantKey", cyrusPayoutApiKey);
-      formData.add("MethodName", "sendmoney");
-      formData.add("orderId", generatedOrderId);
-      formData.add("Name", sendMoneyRequestDto.getBeneficiaryName());
-      formData.add("amount", String.valueOf(sendMoneyRequestDto.getAmount()));
-      formData.add("MobileNo", sendMoneyRequestDto.getBeneficiaryMobileNumber());
-      formData.add("comments", sendMoneyRequestDto.getComment());
-      formData.add("TransferType", sendMoneyRequestDto.getTransferType());
-      formData.add("beneficiaryid", beneficiaryId);
-      formData.add("remarks", sendMoneyRequestDto.getRemarks());
+      Map<String, String> formData = sendMoneyParams(sendMoneyRequestDto, generatedOrderId);
 
       logger.debug("Form data for 'Send Money': {}", formData);
 
-      // Set headers
-      HttpHeaders headers = new HttpHeaders();
-      headers.setContentType(MediaType.MULTIPART_FORM_DATA);
-      HttpEntity<MultiValueMap<String, String>> requestEntity = new HttpEntity<>(formData, headers);
+      DuplicatePayoutDetector.Reservation reservation = duplicatePayoutDetector.reserve(beneficiaryId,
+          sendMoneyRequestDto.getAmount(), sendMoneyRequestDto.getTransferType(), "single");
+      if (reservation.isBlocked()) {
+        return baseResponse.errorResponse(HttpStatus.CONFLICT,
+            "A payout of the same amount and transfer type was sent to this beneficiary at "
+                + reservation.getPreviousPayoutAt() + ". Duplicate payout blocked.");
+      }
+
+      AdaptiveConcurrencyLimiter.Permit permit =
+          sendMoneyConcurrencyLimiter.tryAcquire(sendMoneyMaxWaitMillis, TimeUnit.MILLISECONDS);
+      if (permit == null) {
+        reservation.release();
+        logger.warn("⚠️ Send money limit of {} concurrent payouts reached, rejecting Beneficiary ID: {}",
+            sendMoneyConcurrencyLimiter.getLimit(), beneficiaryId);
+        return baseResponse.errorResponse(HttpStatus.SERVICE_UNAVAILABLE,
+            "Too many payouts in progress, please try again shortly");
+      }
 
       // Call external API
       logger.info("📡 Sending request to Cyrus API...");
-      ResponseEntity<String> apiResponse = restTemplate.exchange(url, HttpMethod.POST, requestEntity, String.class);
-      logger.info("✅ Received response: {}", apiResponse.getBody());
+      SendMoneyRetryExecutor.Result result = sendMoneyRetryExecutor.send(CyrusCallGroup.SEND_MONEY,
+          generatedOrderId, formData, sendMoneyBudgetMillis, permit);
+
+      if (result.outcome() == SendMoneyRetryExecutor.Outcome.UNKNOWN) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(
+            status -> recordPendingPayout(sendMoneyRequestDto, generatedOrderId, null));
+        return baseResponse.successResponse("Payout submitted, final status will be confirmed shortly",
+            Map.of("orderId", generatedOrderId));
+      }
+      if (result.outcome() == SendMoneyRetryExecutor.Outcome.FAILED) {
+        reservation.release();
+        throw result.error();
+      }
 
-      // Deserialize response
-      SendMoneyResponseDto responseDto = objectMapper.readValue(apiResponse.getBody(), SendMoneyResponseDto.class);
+      SendMoneyResponseDto responseDto = result.response();
+      logger.info("✅ Received response: {}", responseDto);
 
-      if (StringUtils.isNotNullAndNotEmpty(responseDto.getData().getOrderId())) {
+      if (responseDto.getData() != null && StringUtils.isNotNullAndNotEmpty(responseDto.getData().getOrderId())) {
         logger.info("💸 Money sent successfully. Order ID: {}", responseDto.getData().getOrderId());
 
         // Save to history
@@ -412,6 +415,8 @@ public class PayoutServiceImpl implements PayoutService {
         sendMoneyHistory.setBeneficiaryId(beneficiaryId);
         sendMoneyHistory.setStatus(responseDto.getStatus());
         sendMoneyHistory.setOrderId(responseDto.getData().getOrderId());
+        sendMoneyHistory.setAmount(sendMoneyRequestDto.getAmount());
+        sendMoneyHistory.setTransferType(sendMoneyRequestDto.getTransferType());
         sendMoneyHistory.setCyrusOrderId(responseDto.getData().getCyrusOrderId());
         sendMoneyHistory.setCyrusId(responseDto.getData().getCyrus_id());
         sendMoneyHistory.setRrnNumber(responseDto.getData().getRrn());
@@ -419,17 +424,21 @@ public class PayoutServiceImpl implements PayoutService {
         sendMoneyHistory.setLockedAmount(responseDto.getData().getLocked_amt());
         sendMoneyHistory.setChargedAmount(responseDto.getData().getCharged_amt());
 
-        sendMoneyHistoryRepo.save(sendMoneyHistory);
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+          sendMoneyHistoryRepo.save(sendMoneyHistory);
+          payoutSummaryService.recordTransaction(sendMoneyHistory);
 
-        if (walletBalanceRepository.count() == 0) {
-          WalletBalance walletBalance = new WalletBalance();
-          walletBalance.setMemberId(cyrusApiMemberId);
-          walletBalance.setBalance(Double.parseDouble(responseDto.getData().getOpening_bal()));
-          walletBalanceRepository.save(walletBalance);
-        }
+          if (walletBalanceRepository.count() == 0) {
+            WalletBalance walletBalance = new WalletBalance();
+            walletBalance.setMemberId(cyrusApiMemberId);
+            walletBalance.setBalance(Double.parseDouble(responseDto.getData().getOpening_bal()));
+            walletBalanceRepository.save(walletBalance);
+          }
+        });
 
         logger.info("📝 Transaction details saved to history successfully.");
       } else {
+        reservation.release();
         logger.warn("⚠️ 'Send Money' API response did not contain a valid Order ID. Full Response: {}", responseDto);
       }
 
@@ -437,14 +446,161 @@ public class PayoutServiceImpl implements PayoutService {
 
     } catch (Exception e) {
       logger.error("❌ Exception occurred while processing 'Send Money' request for Beneficiary ID: {}", beneficiaryId, e);
-      return baseResponse.errorResponse(
-          HttpStatus.INTERNAL_SERVER_ERROR,
-          "An unexpected error occurred while processing send money request"
-      );
+      return gatewayErrorResponse(e, "An unexpected error occurred while processing send money request");
+    }
+  }
+
+  /**
+   * Sends a JSON array of payouts as one bulk job. The body is read element by element, every entry is
+   * validated and resolved to an active beneficiary, and the job is stored with batched inserts before
+   * it runs through the same limiter and executor as approved bulk uploads. The whole batch is
+   * rejected if any entry is invalid. Like bulk uploads, the job is recorded under the Cyrus API
+   * member id; the submitting member only selects the fair-share queue its rows run in. The job is
+   * stored as {@code PROCESSING}, so it is never offered for approval like a pending upload, and is
+   * marked {@code COMPLETED} once every row has run.
+   * The call returns 202 with the order id assigned to every payout as soon as the job is stored and
+   * queued; the payouts run in the background and their outcome is polled through
+   * {@code POST /check-status/batch}.
+   *
+   * @param body     request body, a JSON array of @{@link SendMoneyRequestDto}
+   * @param memberId member submitting the batch
+   * @return @{@link ResponseEntity}
+   */
+  @Override
+  public ResponseEntity<?> sendMoneyBatch(InputStream body, String memberId) {
+    List<SendMoneyRequestDto> items;
+    try {
+      items = readBatchItems(body);
+    } catch (IllegalArgumentException e) {
+      return baseResponse.errorResponse(HttpStatus.BAD_REQUEST, e.getMessage());
+    } catch (IOException e) {
+      logger.warn("⚠️ Unreadable send-money batch body: {}", e.getMessage());
+      return baseResponse.errorResponse(HttpStatus.BAD_REQUEST, "Request body must be a JSON array of payouts");
+    }
+
+    if (items.isEmpty()) {
+      return baseResponse.errorResponse(HttpStatus.BAD_REQUEST, "Batch contains no payouts");
+    }
+
+    try {
+      Set<String> beneficiaryIds = items.stream()
+          .map(SendMoneyRequestDto::getBeneficiaryId)
+          .collect(Collectors.toSet());
+      Map<String, Beneficiary> beneficiaries = beneficiaryRepository
+          .findAllByBeneficiaryIdInAndStatus(beneficiaryIds, true).stream()
+          .collect(Collectors.toMap(Beneficiary::getBeneficiaryId, b -> b, (first, second) -> first));
+
+      List<String> errors = new ArrayList<>();
+      for (int i = 0; i < items.size(); i++) {
+        if (!beneficiaries.containsKey(items.get(i).getBeneficiaryId())) {
+          errors.add("Item " + i + ": unknown or inactive beneficiary " + items.get(i).getBeneficiaryId());
+        }
+      }
+      if (!errors.isEmpty()) {
+        return baseResponse.errorResponse(HttpStatus.BAD_REQUEST, "Invalid payouts in batch", errors);
+      }
+
+      String comment = "Payout Of " + new Date();
+      List<BulkPaymentTransactionHistory> rows = new ArrayList<>(items.size());
+      for (SendMoneyRequestDto item : items) {
+        Beneficiary beneficiary = beneficiaries.get(item.getBeneficiaryId());
+        BulkPaymentTransactionHistory row = new BulkPaymentTransactionHistory();
+        row.setMemberId(cyrusApiMemberId);
+        row.setBeneficiaryId(beneficiary.getId());
+        row.setBeneficiaryCyrusId(beneficiary.getBeneficiaryId());
+        row.setBeneficiaryName(StringUtils.isNotNullAndNotEmpty(item.getBeneficiaryName())
+            ? item.getBeneficiaryName() : beneficiary.getBeneficiaryName());
+        row.setBeneficiaryMobileNumber(StringUtils.isNotNullAndNotEmpty(item.getBeneficiaryMobileNumber())
+            ? item.getBeneficiaryMobileNumber() : beneficiary.getBeneficiaryMobileNumber());
+        row.setComment(StringUtils.isNotNullAndNotEmpty(item.getComment()) ? item.getComment() : comment);
+        row.setRemarks(StringUtils.isNotNullAndNotEmpty(item.getRemarks()) ? item.getRemarks() : "Vendor Payments");
+        row.setTransactionType(item.getTransferType());
+        row.setAmount(item.getAmount());
+        row.setOrderId(UUID.randomUUID().toString());
+        row.setStatus(BulkPaymentStatus.PENDING);
+        rows.add(row);
+      }
+
+      String transactionId = nextBulkTransactionId();
+      new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+        BulkPaymentHistory bulkPaymentHistory = new BulkPaymentHistory();
+        bulkPaymentHistory.setMemberId(cyrusApiMemberId);
+        bulkPaymentHistory.setTransactionId(transactionId);
+        bulkPaymentHistory.setStatus(BulkPaymentStatus.PROCESSING);
+        bulkPaymentHistoryRepo.save(bulkPaymentHistory);
+
+        rows.forEach(row -> row.setTransactionId(transactionId));
+        bulkPaymentTransactionHistoryRepo.saveAll(rows);
+      });
+
+      logger.info("🧾 Stored send-money batch {} with {} payout(s) for memberId: {}",
+          transactionId, rows.size(), memberId);
+
+      List<Map<String, Object>> payouts = new ArrayList<>(rows.size());
+      for (BulkPaymentTransactionHistory row : rows) {
+        Map<String, Object> payout = new LinkedHashMap<>();
+        payout.put("orderId", row.getOrderId());
+        payout.put("beneficiaryId", row.getBeneficiaryCyrusId());
+        payout.put("amount", row.getAmount());
+        payout.put("status", row.getStatus());
+        payouts.add(payout);
+      }
+
+      processBulkRows(memberId, transactionId, rows).whenComplete((ignored, error) -> {
+        if (error != null) {
+          logger.error("❌ Send-money batch {} finished with failed rows - {}", transactionId, error.getMessage());
+        }
+        updateBulkPaymentStatus(cyrusApiMemberId, transactionId, BulkPaymentStatus.PROCESSING,
+            BulkPaymentStatus.COMPLETED);
+        logger.info("✅ Completed send-money batch {} for memberId: {}", transactionId, memberId);
+      });
+
+      Map<String, Object> response = new HashMap<>();
+      response.put("transactionId", transactionId);
+      response.put("payouts", payouts);
+      ResponseEntity<?> accepted = baseResponse.successResponse("Batch accepted for processing", response);
+      return ResponseEntity.status(HttpStatus.ACCEPTED).body(accepted.getBody());
+
+    } catch (Exception e) {
+      logger.error("❌ Error while processing send-money batch for memberId: {} - {}", memberId, e.getMessage(), e);
+      return baseResponse.errorResponse(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to process send-money batch.");
+    }
+  }
+
+  /**
+   * Reads the batch one array element at a time and validates each entry as it is read.
+   */
+  private List<SendMoneyRequestDto> readBatchItems(InputStream body) throws IOException {
+    List<SendMoneyRequestDto> items = new ArrayList<>();
+    try (JsonParser parser = objectMapper.createParser(body)) {
+      if (parser.nextToken() != JsonToken.START_ARRAY) {
+        throw new IllegalArgumentException("Request body must be a JSON array of payouts");
+      }
+      while (parser.nextToken() == JsonToken.START_OBJECT) {
+        if (items.size() >= maxBatchItems) {
+          throw new IllegalArgumentException("A batch can contain at most " + maxBatchItems + " payouts");
+        }
+        SendMoneyRequestDto item = parser.readValueAs(SendMoneyRequestDto.class);
+        if (!StringUtils.isNotNullAndNotEmpty(item.getBeneficiaryId())) {
+          throw new IllegalArgumentException("Item " + items.size() + ": beneficiaryId is required");
+        }
+        if (item.getAmount() == null || item.getAmount() <= 0) {
+          throw new IllegalArgumentException("Item " + items.size() + ": amount must be greater than 0");
+        }
+        if (!StringUtils.isNotNullAndNotEmpty(item.getTransferType())) {
+          throw new IllegalArgumentException("Item " + items.size() + ": transferType is required");
+        }
+        items.add(item);
+      }
+      if (parser.currentToken() != JsonToken.END_ARRAY) {
+        throw new IllegalArgumentException("Every batch entry must be a JSON object");
+      }
     }
+    return items;
   }
 
   @Override
+  @Transactional(readOnly = true)
   public ResponseEntity<?> getTransactionDetails(String beneficiaryId, int pageNumber, int pageSize) {
     try {
       logger.info("📥 Request received to fetch transaction details for beneficiary ID: {}", beneficiaryId);
@@ -491,47 +647,148 @@ public class PayoutServiceImpl implements PayoutService {
   }
 
   @Override
-  public ResponseEntity<?> checkStatus(String orderId) {
-    String url = cyrusRechargeApiEndpoint + CyrusApiConstant.SEND_MONEY_URL;
+  public CompletableFuture<ResponseEntity<?>> checkStatus(String orderId) {
+    logger.info("🔎 Initiating transaction status check for Order ID: {}", orderId);
+
+    return cyrusClient.read(CyrusCallGroup.STATUS, CyrusApiConstant.SEND_MONEY_URL, "checkstatus",
+            Map.of("orderId", orderId))
+        .<ResponseEntity<?>>thenApply(body -> {
+          logger.debug("✅ Received response for Order ID {}: {}", orderId, body);
+          Object response = readJson(body, Object.class);
+          logger.info("ℹ️ Status check completed for Order ID: {}", orderId);
+          return baseResponse.successResponse(response);
+        })
+        .exceptionally(e -> {
+          logger.error("❌ Exception occurred while checking transaction status for Order ID: {}", orderId, e);
+          return gatewayErrorResponse(e, "An unexpected error occurred while fetching transaction details");
+        });
+  }
+
+  /**
+   * Answers the status of many orders at once. Orders whose local {@link SendMoneyHistory} status is
+   * already terminal are answered from the database; the rest are checked at Cyrus concurrently on the
+   * status check executor, as many at a time as the status-check limiter allows, so the checks overlap
+   * with the blocking and the reactive Cyrus client alike. Results keep the order of the request. An order
+   * whose check fails, or whose Cyrus response cannot be read, gets an {@code error} result without
+   * affecting the others. The request thread waits for the permits and the checks, so the answer is
+   * returned directly rather than as a future.
+   *
+   * @param orderIds order ids to check
+   * @return @{@link ResponseEntity}
+   */
+  @Override
+  public ResponseEntity<?> checkStatusBatch(List<String> orderIds) {
+    if (orderIds == null || orderIds.isEmpty()) {
+      return baseResponse.errorResponse(HttpStatus.BAD_REQUEST, "orderIds must not be empty");
+    }
+    if (orderIds.size() > maxStatusBatchOrderIds) {
+      return baseResponse.errorResponse(HttpStatus.BAD_REQUEST,
+          "At most " + maxStatusBatchOrderIds + " order ids can be checked at once");
+    }
 
+    List<String> distinctOrderIds = orderIds.stream()
+        .filter(StringUtils::isNotNullAndNotEmpty)
+        .distinct()
+        .toList();
+    logger.info("🔎 Batch status check requested for {} order(s)", distinctOrderIds.size());
+
+    Map<String, Map<String, Object>> results = new ConcurrentHashMap<>();
     try {
-      logger.info("🔎 Initiating transaction status check for Order ID: {}", orderId);
-      logger.debug("Cyrus API Endpoint: {}", url);
+      for (SendMoneyHistory history : sendMoneyHistoryRepo.findAllByOrderIdIn(distinctOrderIds)) {
+        if (history.getStatus() != null && terminalStatuses.contains(history.getStatus().toUpperCase(Locale.ROOT))) {
+          results.put(history.getOrderId(), statusResult(history.getOrderId(), history.getStatus(), "local", null));
+        }
+      }
+    } catch (Exception e) {
+      logger.error("❌ Local status lookup failed, checking every order at Cyrus - {}", e.getMessage(), e);
+    }
+    int answeredLocally = results.size();
 
-      // Prepare form data
-      MultiValueMap<String, String> formData = new LinkedMultiValueMap<>();
-      formData.add("MerchantID", cyrusApiMemberId);
-      formData.add("MerchantKey", cyrusPayoutApiKey);
-      formData.add("MethodName", "checkstatus");
-      formData.add("orderId", orderId);
-      logger.debug("Form data for status check: {}", formData);
-
-      // Set headers
-      HttpHeaders headers = new HttpHeaders();
-      headers.setContentType(MediaType.MULTIPART_FORM_DATA);
-      HttpEntity<MultiValueMap<String, String>> requestEntity = new HttpEntity<>(formData, headers);
+    List<CompletableFuture<?>> remoteChecks = new ArrayList<>();
+    try {
+      for (String orderId : distinctOrderIds) {
+        if (results.containsKey(orderId)) {
+          continue;
+        }
+        AdaptiveConcurrencyLimiter.Permit permit = statusCheckConcurrencyLimiter.acquire();
+        CompletableFuture<String> check;
+        try {
+          check = CompletableFuture.supplyAsync(() -> cyrusClient.read(CyrusCallGroup.RECONCILIATION,
+                  CyrusApiConstant.SEND_MONEY_URL, "checkstatus", Map.of("orderId", orderId)), statusCheckExecutor)
+              .thenCompose(Function.identity());
+        } catch (RuntimeException e) {
+          check = CompletableFuture.failedFuture(e);
+        }
+        remoteChecks.add(check
+            .handle((body, e) -> {
+              if (e == null) {
+                permit.success();
+                try {
+                  Object response = readJson(body, Object.class);
+                  Object status = response instanceof Map<?, ?> map ? map.get("status") : null;
+                  results.put(orderId, statusResult(orderId, status, "cyrus", response));
+                } catch (RuntimeException parseError) {
+                  logger.warn("⚠️ Unreadable status response for Order ID: {} - {}", orderId,
+                      parseError.getMessage());
+                  results.put(orderId, statusResult(orderId, null, "error", parseError.getMessage()));
+                }
+              } else {
+                Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                if (cause instanceof CyrusUnavailableException) {
+                  permit.ignore();
+                } else {
+                  permit.dropped();
+                }
+                logger.warn("⚠️ Status check failed for Order ID: {} - {}", orderId, cause.getMessage());
+                results.put(orderId, statusResult(orderId, null, "error", cause.getMessage()));
+              }
+              return null;
+            }));
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      logger.warn("⚠️ Batch status check interrupted, {} order(s) left unchecked",
+          distinctOrderIds.size() - results.size() - remoteChecks.size());
+    }
 
-      // Call external API
-      logger.info("📡 Sending status check request to Cyrus API...");
-      ResponseEntity<String> apiResponse = restTemplate.exchange(url, HttpMethod.POST, requestEntity, String.class);
-      logger.debug("✅ Received response for Order ID {}: {}", orderId, apiResponse.getBody());
+    CompletableFuture.allOf(remoteChecks.toArray(new CompletableFuture[0])).join();
 
-      // Convert response to generic object or use specific DTO if available
-      Object response = objectMapper.readValue(apiResponse.getBody(), Object.class);
-      logger.info("ℹ️ Status check completed for Order ID: {}", orderId);
+    List<Map<String, Object>> statuses = new ArrayList<>(distinctOrderIds.size());
+    int failed = 0;
+    for (String orderId : distinctOrderIds) {
+      Map<String, Object> result = results.get(orderId);
+      if (result == null) {
+        result = statusResult(orderId, null, "error", "Not checked");
+      }
+      if ("error".equals(result.get("source"))) {
+        failed++;
+      }
+      statuses.add(result);
+    }
 
-      return baseResponse.successResponse(response);
+    Map<String, Object> response = new HashMap<>();
+    response.put("statuses", statuses);
+    response.put("answeredLocally", answeredLocally);
+    response.put("checkedAtCyrus", statuses.size() - answeredLocally - failed);
+    response.put("failed", failed);
+    logger.info("ℹ️ Batch status check completed: {} local, {} from Cyrus, {} failed",
+        answeredLocally, statuses.size() - answeredLocally - failed, failed);
+    return baseResponse.successResponse(response);
+  }
 
-    } catch (Exception e) {
-      logger.error("❌ Exception occurred while checking transaction status for Order ID: {}", orderId, e);
-      return baseResponse.errorResponse(
-          HttpStatus.INTERNAL_SERVER_ERROR,
-          "An unexpected error occurred while fetching transaction details"
-      );
+  private static Map<String, Object> statusResult(String orderId, Object status, String source, Object detail) {
+    Map<String, Object> result = new LinkedHashMap<>();
+    result.put("orderId", orderId);
+    result.put("status", status);
+    result.put("source", source);
+    if (detail != null) {
+      result.put("error".equals(source) ? "error" : "response", detail);
     }
+    return result;
   }
 
   @Override
+  @Transactional(readOnly = true)
   public ResponseEntity<?> getBeneficiaryList(int pageNumber, int pageSize) {
     try {
       logger.info("📥 Request received to fetch beneficiary list. Page: {}, Size: {}", pageNumber, pageSize);
@@ -575,6 +832,7 @@ public class PayoutServiceImpl implements PayoutService {
   }
 
   @Override
+  @Transactional(readOnly = true)
   public ResponseEntity<?> getAllPayoutTransaction(int pageNumber, int pageSize) {
     try {
 
@@ -611,6 +869,61 @@ public class PayoutServiceImpl implements PayoutService {
     }
   }
 
+  @Override
+  @Transactional(readOnly = true)
+  public ResponseEntity<?> searchTransactions(TransactionSearchRequestDto searchRequestDto) {
+    try {
+      logger.info("📥 Request received to search payout transactions with filters: {}", searchRequestDto);
+
+      int pageSize = searchRequestDto.getPageSize();
+      if (pageSize <= 0 || pageSize > 100) {
+        logger.warn("⚠️ Invalid page size In Transaction Search {} received. Resetting to default 20.", pageSize);
+        pageSize = 20;
+      }
+
+      Specification<SendMoneyHistory> specification = SendMoneyHistorySpecifications.matching(searchRequestDto);
+      if (StringUtils.isNotNullAndNotEmpty(searchRequestDto.getCursor())) {
+        String[] cursorParts = searchRequestDto.getCursor().split(":");
+        if (cursorParts.length != 2) {
+          return baseResponse.errorResponse(HttpStatus.BAD_REQUEST, "Invalid cursor");
+        }
+        specification = specification.and(SendMoneyHistorySpecifications.after(
+            new Date(Long.parseLong(cursorParts[0])), Long.parseLong(cursorParts[1])));
+      }
+
+      // Fetch one extra row to know whether another page exists without a count query.
+      int limit = pageSize + 1;
+      List<SendMoneyHistory> rows = sendMoneyHistoryRepo.findBy(specification, query -> query
+          .sortBy(SendMoneyHistorySpecifications.KEYSET_SORT)
+          .limit(limit)
+          .all());
+
+      boolean hasMore = rows.size() > pageSize;
+      List<SendMoneyHistory> page = hasMore ? rows.subList(0, pageSize) : rows;
+
+      String nextCursor = null;
+      if (hasMore) {
+        SendMoneyHistory last = page.getLast();
+        nextCursor = last.getCreatedAt().getTime() + ":" + last.getId();
+      }
+
+      logger.info("✅ Transaction search returned {} record(s). Has more: {}", page.size(), hasMore);
+
+      Map<String, Object> response = new HashMap<>();
+      response.put("transactions", createSendMoneyHistoryResponseDto(page));
+      response.put("nextCursor", nextCursor);
+      response.put("hasMore", hasMore);
+      return baseResponse.successResponse(response);
+
+    } catch (NumberFormatException e) {
+      return baseResponse.errorResponse(HttpStatus.BAD_REQUEST, "Invalid cursor");
+    } catch (Exception e) {
+      logger.error("❌ Exception occurred while searching payout transactions", e);
+      return baseResponse.errorResponse(HttpStatus.INTERNAL_SERVER_ERROR,
+          "An unexpected error occurred while searching transactions");
+    }
+  }
+
   @Override
   public ResponseEntity<?> uploadBulkBeneficiary(MultipartFile file,
                                                  AddBulkBeneficiaryRequestDto addBulkBeneficiaryRequestDto) {
@@ -639,11 +952,7 @@ public class PayoutServiceImpl implements PayoutService {
   private void saveBeneficiaryDetails(List<Map<String, String>> beneficiaries,
                                       AddBulkBeneficiaryRequestDto addBulkBeneficiaryRequestDto) {
     try {
-      // Generate unique transaction ID
-      String transactionId;
-      do {
-        transactionId = "TXN-" + bulkPaymentHistoryRepo.countByMemberId(cyrusApiMemberId);
-      } while (bulkPaymentHistoryRepo.existsByTransactionId(transactionId));
+      String transactionId = nextBulkTransactionId();
 
       // Save bulk payment header
       BulkPaymentHistory bulkPaymentHistory = new BulkPaymentHistory();
@@ -767,36 +1076,17 @@ public class PayoutServiceImpl implements PayoutService {
       String address = objectMapper.writeValueAsString(requestDto.getAddress());
 
       // Prepare form data
-      MultiValueMap<String, String> formData = new LinkedMultiValueMap<>();
-      formData.add("MerchantID", cyrusApiMemberId);
-      formData.add("MerchantKey", cyrusPayoutApiKey);
-      formData.add("MethodName", "GET_BENEFICIARY");
-      formData.add("pay_type", "account_number");
-      formData.add("beneficiary_bank_account_number", requestDto.getBeneficiaryAccountNumber());
-      formData.add("beneficiary_bank_ifsc_code", requestDto.getBeneficiaryIfscCode());
-      formData.add("beneficiary_name", requestDto.getBeneficiaryName());
-      formData.add("beneficiary_email", requestDto.getBeneficiaryEmail());
-      formData.add("beneficiary_phone", requestDto.getBeneficiaryMobileNumber());
-      formData.add("beneficiary_pan", requestDto.getBeneficiaryPanNumber());
-      formData.add("beneficiary_aadhar", requestDto.getBeneficiaryAadhaarNumber());
-      formData.add("is_agreement_with_beneficiary", "YES");
-      formData.add("beneficiary_verification_status", "YES");
-      formData.add("beneficiary_address", address);
-      formData.add("bene_type", requestDto.getBeneType());
-      formData.add("latlong", requestDto.getLatitude() + "," + requestDto.getLongitude());
-      // Set headers
-      HttpHeaders headers = new HttpHeaders();
-      headers.setContentType(MediaType.MULTIPART_FORM_DATA);
-      HttpEntity<MultiValueMap<String, String>> requestEntity = new HttpEntity<>(formData, headers);
+      Map<String, String> formData = addBeneficiaryParams(requestDto, address);
 
       logger.info("Sending request to Cyrus API with payload In Bulk Upload: {}", formData);
 
       // Make API call
-      ResponseEntity<String> apiResponse = restTemplate.exchange(url, HttpMethod.POST, requestEntity, String.class);
-      logger.info("Received response from Cyrus API In Bulk Upload: {}", apiResponse.getBody());
+      String apiResponse = cyrusClient.postAndWait(CyrusCallGroup.REFERENCE, CyrusApiConstant.ADD_BENEFICIARY_URL,
+          "GET_BENEFICIARY", formData);
+      logger.info("Received response from Cyrus API In Bulk Upload: {}", apiResponse);
 
       // Convert response
-      AddBeneficiaryResponseDto responseDto = objectMapper.readValue(apiResponse.getBody(), AddBeneficiaryResponseDto.class);
+      AddBeneficiaryResponseDto responseDto = objectMapper.readValue(apiResponse, AddBeneficiaryResponseDto.class);
 
       // Process response
       if ("SUCCESS".equalsIgnoreCase(responseDto.getData().getStatus())) {
@@ -817,6 +1107,8 @@ public class PayoutServiceImpl implements PayoutService {
         beneficiary.setLongitude(requestDto.getLongitude());
 
         beneficiary = beneficiaryRepository.save(beneficiary);
+        beneficiarySearchIndex.index(beneficiary);
+        beneficiaryDetailsCache.invalidate(beneficiary.getBeneficiaryMobileNumber());
         logger.info("Beneficiary saved to DB successfully. ID: {}", beneficiary.getBeneficiaryId());
 
         return beneficiary;
@@ -831,6 +1123,79 @@ public class PayoutServiceImpl implements PayoutService {
     }
   }
 
+  private Map<String, String> addBeneficiaryParams(AddBeneficiaryRequestDto requestDto, String address) {
+    Map<String, String> formData = new LinkedHashMap<>();
+    formData.put("pay_type", "account_number");
+    formData.put("beneficiary_bank_account_number", requestDto.getBeneficiaryAccountNumber());
+    formData.put("beneficiary_bank_ifsc_code", requestDto.getBeneficiaryIfscCode());
+    formData.put("beneficiary_name", requestDto.getBeneficiaryName());
+    formData.put("beneficiary_email", requestDto.getBeneficiaryEmail());
+    formData.put("beneficiary_phone", requestDto.getBeneficiaryMobileNumber());
+    formData.put("beneficiary_pan", requestDto.getBeneficiaryPanNumber());
+    formData.put("beneficiary_aadhar", requestDto.getBeneficiaryAadhaarNumber());
+    formData.put("is_agreement_with_beneficiary", "YES");
+    formData.put("beneficiary_verification_status", "YES");
+    formData.put("beneficiary_address", address);
+    formData.put("bene_type", requestDto.getBeneType());
+    formData.put("latlong", requestDto.getLatitude() + "," + requestDto.getLongitude());
+    return formData;
+  }
+
+  private Map<String, String> sendMoneyParams(SendMoneyRequestDto requestDto, String orderId) {
+    Map<String, String> formData = new LinkedHashMap<>();
+    formData.put("orderId", orderId);
+    formData.put("Name", requestDto.getBeneficiaryName());
+    formData.put("amount", String.valueOf(requestDto.getAmount()));
+    formData.put("MobileNo", requestDto.getBeneficiaryMobileNumber());
+    formData.put("comments", requestDto.getComment());
+    formData.put("TransferType", requestDto.getTransferType());
+    formData.put("beneficiaryid", requestDto.getBeneficiaryId());
+    formData.put("remarks", requestDto.getRemarks());
+    return formData;
+  }
+
+  /**
+   * Records a payout whose outcome at Cyrus is unknown as {@code PENDING}, so the payout callback or a
+   * later status check can settle it by its order id.
+   */
+  private void recordPendingPayout(SendMoneyRequestDto requestDto, String orderId, String bulkTransactionId) {
+    logger.warn("⏳ Outcome of orderId {} for Beneficiary ID {} is unknown, recording it as PENDING",
+        orderId, requestDto.getBeneficiaryId());
+    SendMoneyHistory history = new SendMoneyHistory();
+    history.setMemberId(cyrusApiMemberId);
+    history.setBeneficiaryId(requestDto.getBeneficiaryId());
+    history.setStatus(BulkPaymentStatus.PENDING.name());
+    history.setOrderId(orderId);
+    history.setAmount(requestDto.getAmount());
+    history.setTransferType(requestDto.getTransferType());
+    history.setBulkTransactionId(bulkTransactionId);
+    sendMoneyHistoryRepo.save(history);
+    payoutSummaryService.recordTransaction(history);
+  }
+
+  /**
+   * Answers 503 when the Cyrus call was rejected by its circuit breaker or bulkhead, 500 otherwise.
+   */
+  private ResponseEntity<?> gatewayErrorResponse(Throwable e, String message) {
+    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+    if (cause instanceof CyrusUnavailableException) {
+      return baseResponse.errorResponse(HttpStatus.SERVICE_UNAVAILABLE, cause.getMessage());
+    }
+    return baseResponse.errorResponse(HttpStatus.INTERNAL_SERVER_ERROR, message);
+  }
+
+  private <T> T readJson(String body, Class<T> type) {
+    try {
+      return objectMapper.readValue(body, type);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Unreadable Cyrus response: " + e.getOriginalMessage(), e);
+    }
+  }
+
+  private String nextBulkTransactionId() {
+    return "TXN-" + UUID.randomUUID();
+  }
+
   private long parseAmount(String amountStr) {
     if (StringUtils.isNotNullAndNotEmpty(amountStr)) {
       try {
@@ -860,6 +1225,7 @@ public class PayoutServiceImpl implements PayoutService {
    * @return ResponseEntity containing paginated transaction details or error response
    */
   @Override
+  @Transactional(readOnly = true)
   public ResponseEntity<?> getBulkUploadTransactionIds(int pageNo, int pageSize, String memberId) {
     logger.info("Fetching bulk upload transaction history for memberId: {}, pageNo: {}, pageSize: {}",
         memberId, pageNo, pageSize);
@@ -887,6 +1253,7 @@ public class PayoutServiceImpl implements PayoutService {
   }
 
   @Override
+  @Transactional(readOnly = true)
   public ResponseEntity<?> getBulkUploadAmountDetailsUsingTransactionId(String transactionId, String memberId) {
     try {
       List<BulkPaymentTransactionHistory> transactions =
@@ -908,7 +1275,10 @@ public class PayoutServiceImpl implements PayoutService {
     try {
 
       if (!status) {
-        updateBulkPaymentStatus(memberId, transactionId, BulkPaymentStatus.DENIED);
+        if (!updateBulkPaymentStatus(memberId, transactionId, BulkPaymentStatus.PENDING,
+            BulkPaymentStatus.DENIED)) {
+          return baseResponse.errorResponse(HttpStatus.CONFLICT, "Bulk payment is not awaiting approval.");
+        }
         return baseResponse.successResponse("All Payment Denied Successfully");
       }
 
@@ -921,27 +1291,18 @@ public class PayoutServiceImpl implements PayoutService {
         return baseResponse.errorResponse(HttpStatus.NOT_FOUND, "No bulk payment records found.");
       }
 
+      if (!updateBulkPaymentStatus(memberId, transactionId, BulkPaymentStatus.PENDING,
+          BulkPaymentStatus.PROCESSING)) {
+        return baseResponse.errorResponse(HttpStatus.CONFLICT, "Bulk payment is not awaiting approval.");
+      }
+
       logger.info("🧾 Processing {} bulk payment transactions for transactionId: {}",
           transactionHistoryList.size(), transactionId);
 
-      for (BulkPaymentTransactionHistory transaction : transactionHistoryList) {
-        SendMoneyRequestDto requestDto = new SendMoneyRequestDto();
-        requestDto.setAmount(transaction.getAmount());
-        requestDto.setBeneficiaryId(transaction.getBeneficiaryCyrusId());
-        requestDto.setBeneficiaryName(transaction.getBeneficiaryName());
-        requestDto.setBeneficiaryMobileNumber(transaction.getBeneficiaryMobileNumber());
-        requestDto.setTransferType(transaction.getTransactionType());
-        requestDto.setComment(transaction.getComment());
-        requestDto.setRemarks(transaction.getRemarks());
-
-        boolean success = sendMoneyBulk(requestDto);
-
-        transaction.setStatus(success ? BulkPaymentStatus.COMPLETED : BulkPaymentStatus.FAILED);
-        bulkPaymentTransactionHistoryRepo.save(transaction); // Optional: batch save after loop
-      }
+      processBulkRows(memberId, transactionId, transactionHistoryList).join();
 
       logger.info("✅ Completed processing bulk payment for transactionId: {}", transactionId);
-      updateBulkPaymentStatus(memberId, transactionId, BulkPaymentStatus.APPROVED);
+      updateBulkPaymentStatus(memberId, transactionId, BulkPaymentStatus.PROCESSING, BulkPaymentStatus.APPROVED);
       return baseResponse.successResponse("Bulk payment processed successfully.");
 
     } catch (Exception e) {
@@ -952,41 +1313,84 @@ public class PayoutServiceImpl implements PayoutService {
     }
   }
 
+  /**
+   * Queues every row of a bulk job on the member's fair-share queue and records each row's outcome.
+   * Rows without an order id get one assigned before they are queued.
+   *
+   * @return future completed once every row has finished
+   */
+  private CompletableFuture<Void> processBulkRows(String memberId, String transactionId,
+                                                 List<BulkPaymentTransactionHistory> rows) {
+    List<CompletableFuture<Void>> rowFutures = new ArrayList<>(rows.size());
+    for (BulkPaymentTransactionHistory transaction : rows) {
+      if (!StringUtils.isNotNullAndNotEmpty(transaction.getOrderId())) {
+        transaction.setOrderId(UUID.randomUUID().toString());
+      }
+
+      SendMoneyRequestDto requestDto = new SendMoneyRequestDto();
+      requestDto.setAmount(transaction.getAmount());
+      requestDto.setBeneficiaryId(transaction.getBeneficiaryCyrusId());
+      requestDto.setBeneficiaryName(transaction.getBeneficiaryName());
+      requestDto.setBeneficiaryMobileNumber(transaction.getBeneficiaryMobileNumber());
+      requestDto.setTransferType(transaction.getTransactionType());
+      requestDto.setComment(transaction.getComment());
+      requestDto.setRemarks(transaction.getRemarks());
+
+      rowFutures.add(bulkPayoutScheduler.submit(memberId, permit -> {
+        try {
+          transaction.setStatus(sendMoneyBulk(requestDto, transactionId, transaction.getOrderId(), permit));
+          bulkPaymentTransactionHistoryRepo.save(transaction);
+        } catch (Exception e) {
+          logger.error("❌ Failed to record bulk payment row {} for transactionId: {} - {}",
+              transaction.getId(), transactionId, e.getMessage(), e);
+        }
+      }));
+    }
+    return CompletableFuture.allOf(rowFutures.toArray(new CompletableFuture[0]));
+  }
+
   @Transactional
-  public boolean sendMoneyBulk(SendMoneyRequestDto requestDto) {
+  public BulkPaymentStatus sendMoneyBulk(SendMoneyRequestDto requestDto, String bulkTransactionId,
+                                         String generatedOrderId, AdaptiveConcurrencyLimiter.Permit permit) {
     String beneficiaryId = requestDto.getBeneficiaryId();
     String url = cyrusRechargeApiEndpoint + CyrusApiConstant.SEND_MONEY_URL;
-    String generatedOrderId = UUID.randomUUID().toString();
+    boolean accepted = false;
+    DuplicatePayoutDetector.Reservation reservation = null;
 
     try {
       logger.info("🚀 Sending money to Beneficiary ID: {}", beneficiaryId);
 
+      reservation = duplicatePayoutDetector.reserve(beneficiaryId, requestDto.getAmount(),
+          requestDto.getTransferType(), "bulk");
+      if (reservation.isBlocked()) {
+        logger.warn("🚫 Duplicate bulk payout blocked for Beneficiary ID: {}. Previous payout at: {}",
+            beneficiaryId, reservation.getPreviousPayoutAt());
+        return BulkPaymentStatus.FAILED;
+      }
+
       // Prepare form data
-      MultiValueMap<String, String> formData = new LinkedMultiValueMap<>();
-      formData.add("MerchantID", cyrusApiMemberId);
-      formData.add("MerchantKey", cyrusPayoutApiKey);
-      formData.add("MethodName", "sendmoney");
-      formData.add("orderId", generatedOrderId);
-      formData.add("Name", requestDto.getBeneficiaryName());
-      formData.add("amount", String.valueOf(requestDto.getAmount()));
-      formData.add("MobileNo", requestDto.getBeneficiaryMobileNumber());
-      formData.add("comments", requestDto.getComment());
-      formData.add("TransferType", requestDto.getTransferType());
-      formData.add("beneficiaryid", beneficiaryId);
-      formData.add("remarks", requestDto.getRemarks());
+      Map<String, String> formData = sendMoneyParams(requestDto, generatedOrderId);
 
       logger.debug("📨 Form Data for Cyrus API: {}", formData);
 
-      HttpHeaders headers = new HttpHeaders();
-      headers.setContentType(MediaType.MULTIPART_FORM_DATA);
-      HttpEntity<MultiValueMap<String, String>> requestEntity = new HttpEntity<>(formData, headers);
-
       logger.info("📡 Calling Cyrus API at: {}", url);
-      ResponseEntity<String> apiResponse = restTemplate.exchange(url, HttpMethod.POST, requestEntity, String.class);
+      SendMoneyRetryExecutor.Result result = sendMoneyRetryExecutor.send(CyrusCallGroup.BULK,
+          generatedOrderId, formData, bulkSendMoneyBudgetMillis, permit);
 
-      logger.info("✅ Received response from Cyrus API: {}", apiResponse.getBody());
+      if (result.outcome() == SendMoneyRetryExecutor.Outcome.UNKNOWN) {
+        recordPendingPayout(requestDto, generatedOrderId, bulkTransactionId);
+        return BulkPaymentStatus.PENDING;
+      }
+      if (result.outcome() == SendMoneyRetryExecutor.Outcome.FAILED) {
+        reservation.release();
+        logger.error("❌ sendMoneyBulk failed for Beneficiary ID: {} after {} attempt(s) - {}",
+            beneficiaryId, result.attempts(), result.error().getMessage());
+        return BulkPaymentStatus.FAILED;
+      }
 
-      SendMoneyResponseDto responseDto = objectMapper.readValue(apiResponse.getBody(), SendMoneyResponseDto.class);
+      accepted = true;
+      SendMoneyResponseDto responseDto = result.response();
+      logger.info("✅ Received response from Cyrus API: {}", responseDto);
 
       if (responseDto.getData() != null && StringUtils.isNotNullAndNotEmpty(responseDto.getData().getOrderId())) {
         logger.info("💸 Money sent successfully. Order ID: {}", responseDto.getData().getOrderId());
@@ -996,6 +1400,9 @@ public class PayoutServiceImpl implements PayoutService {
         history.setBeneficiaryId(beneficiaryId);
         history.setStatus(responseDto.getStatus());
         history.setOrderId(responseDto.getData().getOrderId());
+        history.setAmount(requestDto.getAmount());
+        history.setTransferType(requestDto.getTransferType());
+        history.setBulkTransactionId(bulkTransactionId);
         history.setCyrusOrderId(responseDto.getData().getCyrusOrderId());
         history.setCyrusId(responseDto.getData().getCyrus_id());
         history.setRrnNumber(responseDto.getData().getRrn());
@@ -1004,29 +1411,44 @@ public class PayoutServiceImpl implements PayoutService {
         history.setChargedAmount(responseDto.getData().getCharged_amt());
 
         sendMoneyHistoryRepo.save(history);
+        payoutSummaryService.recordTransaction(history);
         logger.info("📝 Saved SendMoneyHistory successfully.");
 
-        return true;
+        return BulkPaymentStatus.COMPLETED;
       } else {
+        reservation.release();
         logger.warn("⚠️ No valid Order ID received from API. Full Response: {}", responseDto);
-        return false;
+        return BulkPaymentStatus.FAILED;
       }
 
     } catch (Exception e) {
       logger.error("❌ Exception during sendMoneyBulk for Beneficiary ID: {} - {}", beneficiaryId, e.getMessage(), e);
-      return false;
+      if (!accepted && reservation != null) {
+        reservation.release();
+      }
+      return accepted ? BulkPaymentStatus.PENDING : BulkPaymentStatus.FAILED;
     }
   }
 
+  /**
+   * Moves a bulk job to a new status only while it is still in the expected one, so concurrent
+   * approvals, denials and the completion of a running job cannot overwrite each other.
+   *
+   * @return true when the job was in {@code currentStatus} and was updated
+   */
   @Transactional
-  public void updateBulkPaymentStatus(String memberId, String transactionId, BulkPaymentStatus status) {
-    int updated = bulkPaymentHistoryRepo.updateStatusByMemberIdAndTransactionId(status, memberId, transactionId);
+  public boolean updateBulkPaymentStatus(String memberId, String transactionId, BulkPaymentStatus currentStatus,
+                                         BulkPaymentStatus status) {
+    int updated = bulkPaymentHistoryRepo.updateStatusByMemberIdAndTransactionIdAndStatus(status, memberId,
+        transactionId, currentStatus);
     if (updated > 0) {
       logger.info("✅ Updated bulk payment status to {} for transactionId: {}, memberId: {}",
           status, transactionId, memberId);
-    } else {
-      logger.warn("⚠️ No record found to update status for transactionId: {}, memberId: {}", transactionId, memberId);
+      return true;
     }
+    logger.warn("⚠️ No {} bulk payment found to update to {} for transactionId: {}, memberId: {}",
+        currentStatus, status, transactionId, memberId);
+    return false;
   }
 
 
@@ -0,0 +1,208 @@
+package com.tektechno.payout.serviceimpl;
+
+import com.tektechno.payout.dto.response.PayoutDailyRollupDto;
+import com.tektechno.payout.model.PayoutDailyRollup;
+import com.tektechno.payout.model.SendMoneyHistory;
+import com.tektechno.payout.repository.PayoutDailyRollupRepo;
+import com.tektechno.payout.response.BaseResponse;
+import com.tektechno.payout.service.PayoutSummaryService;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Maintains the {@code payout_daily_rollup} table incrementally and serves the daily summary API.
+ * Every new {@link SendMoneyHistory} adds one to its (member, day, status, transfer type) bucket, and a
+ * status change from a callback moves the row from the old status bucket to the new one, so summary
+ * queries only read one row per bucket per day.
+ * Rollup updates are applied after the transaction that wrote the history row commits, in their own
+ * short transaction, so a rolled-back payout never reaches the totals and a rollup failure can never
+ * roll back the payout. Because increments are not atomic with the history row, the last
+ * {@code payout.rollup.recompute-days} closed days are recomputed from {@code send_money_history} every
+ * night. The current day is never recomputed, so a new payout's increment cannot be counted a second
+ * time by a recompute that already saw its row. Deltas hold a Postgres advisory lock in shared mode and
+ * the recompute holds it exclusively, so a status change to a closed day waits for a running recompute
+ * instead of being overwritten by it; only a change committed in the moment between its history update
+ * and its delta can still be counted twice, and the next night's recompute corrects it.
+ */
+@Service
+public class PayoutSummaryServiceImpl implements PayoutSummaryService {
+
+  private static final String UNKNOWN = "UNKNOWN";
+
+  private static final long RECOMPUTE_LOCK_KEY = 0x7061796f75744cL;
+
+  private static final long ROLLUP_LOCK_KEY = 0x7061796f757452L;
+
+  @Value("${cyrus-api-member-id}")
+  private String cyrusApiMemberId;
+
+  @Value("${payout.rollup.zone-id:Asia/Kolkata}")
+  private String rollupZoneId;
+
+  @Value("${payout.rollup.recompute-days:2}")
+  private int recomputeDays;
+
+  @Autowired
+  private PayoutDailyRollupRepo payoutDailyRollupRepo;
+
+  @Autowired
+  private BaseResponse baseResponse;
+
+  private final TransactionTemplate rollupTransactionTemplate;
+
+  private static final Logger logger = LoggerFactory.getLogger(PayoutSummaryServiceImpl.class);
+
+  public PayoutSummaryServiceImpl(PlatformTransactionManager transactionManager) {
+    this.rollupTransactionTemplate = new TransactionTemplate(transactionManager);
+    this.rollupTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+  }
+
+  /**
+   * Heals increments lost between a committed payout and its rollup update on recent closed days.
+   */
+  @Scheduled(cron = "${payout.rollup.recompute-cron:0 30 0 * * *}",
+      zone = "${payout.rollup.zone-id:Asia/Kolkata}")
+  public void recomputeRecentDays() {
+    try {
+      LocalDate today = LocalDate.now(ZoneId.of(rollupZoneId));
+      recompute(today.minusDays(Math.max(1, recomputeDays)), today);
+    } catch (Exception e) {
+      logger.error("Failed to recompute daily payout rollups. Error: {}", e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Rebuilds every bucket from {@code from} up to, but excluding, {@code to} in one transaction that
+   * holds the rollup lock exclusively. Only one node recomputes at a time; the others skip.
+   */
+  private void recompute(LocalDate from, LocalDate to) {
+    ZoneId zone = ZoneId.of(rollupZoneId);
+    Date since = Date.from(from.atStartOfDay(zone).toInstant());
+    Date until = Date.from(to.atStartOfDay(zone).toInstant());
+    Integer rows = rollupTransactionTemplate.execute(transactionStatus -> {
+      if (!payoutDailyRollupRepo.tryRecomputeLock(RECOMPUTE_LOCK_KEY)) {
+        return null;
+      }
+      payoutDailyRollupRepo.lockRollupExclusive(ROLLUP_LOCK_KEY);
+      payoutDailyRollupRepo.resetBetween(from, to);
+      return payoutDailyRollupRepo.recomputeFromHistory(rollupZoneId, since, until);
+    });
+    if (rows == null) {
+      logger.info("Daily payout rollup recompute already running on another node, skipping");
+    } else {
+      logger.info("Recomputed {} daily payout rollup row(s) from send money history from {} to {}",
+          rows, from, to.minusDays(1));
+    }
+  }
+
+  @Override
+  public void recordTransaction(SendMoneyHistory sendMoneyHistory) {
+    applyDelta(sendMoneyHistory, sendMoneyHistory.getStatus(), 1);
+  }
+
+  @Override
+  public void recordStatusChange(SendMoneyHistory sendMoneyHistory, String previousStatus) {
+    if (Objects.equals(normalize(previousStatus), normalize(sendMoneyHistory.getStatus()))) {
+      return;
+    }
+    applyDelta(sendMoneyHistory, previousStatus, -1);
+    applyDelta(sendMoneyHistory, sendMoneyHistory.getStatus(), 1);
+  }
+
+  private void applyDelta(SendMoneyHistory sendMoneyHistory, String status, int direction) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          applyDeltaNow(sendMoneyHistory, status, direction);
+        }
+      });
+    } else {
+      applyDeltaNow(sendMoneyHistory, status, direction);
+    }
+  }
+
+  private void applyDeltaNow(SendMoneyHistory sendMoneyHistory, String status, int direction) {
+    try {
+      Date createdAt = sendMoneyHistory.getCreatedAt() != null ? sendMoneyHistory.getCreatedAt() : new Date();
+      LocalDate rollupDate = createdAt.toInstant().atZone(ZoneId.of(rollupZoneId)).toLocalDate();
+      long amount = sendMoneyHistory.getAmount() != null ? sendMoneyHistory.getAmount() : 0L;
+
+      rollupTransactionTemplate.executeWithoutResult(transactionStatus -> {
+        payoutDailyRollupRepo.lockRollupShared(ROLLUP_LOCK_KEY);
+        payoutDailyRollupRepo.applyDelta(
+            sendMoneyHistory.getMemberId() != null ? sendMoneyHistory.getMemberId() : "",
+            rollupDate,
+            normalize(status),
+            normalize(sendMoneyHistory.getTransferType()),
+            direction,
+            direction * amount);
+      });
+    } catch (Exception e) {
+      logger.error("Failed to update daily payout rollup for orderId: {}. Error: {}",
+          sendMoneyHistory.getOrderId(), e.getMessage(), e);
+    }
+  }
+
+  private static String normalize(String value) {
+    return value == null || value.isBlank() ? UNKNOWN : value;
+  }
+
+  @Override
+  public ResponseEntity<?> getDailySummary(LocalDate fromDate, LocalDate toDate) {
+    String memberId = cyrusApiMemberId;
+    try {
+      LocalDate to = toDate != null ? toDate : LocalDate.now(ZoneId.of(rollupZoneId));
+      LocalDate from = fromDate != null ? fromDate : to;
+
+      if (from.isAfter(to)) {
+        return baseResponse.errorResponse(HttpStatus.BAD_REQUEST, "fromDate must not be after toDate");
+      }
+
+      logger.info("📥 Fetching daily payout summary for memberId: {} from {} to {}", memberId, from, to);
+      List<PayoutDailyRollup> rollups =
+          payoutDailyRollupRepo.findByMemberIdAndRollupDateBetweenOrderByRollupDateDesc(memberId, from, to);
+
+      long totalCount = 0;
+      long totalAmount = 0;
+      List<PayoutDailyRollupDto> rollupDtos = new ArrayList<>(rollups.size());
+      for (PayoutDailyRollup rollup : rollups) {
+        totalCount += rollup.getTransactionCount();
+        totalAmount += rollup.getTotalAmount();
+        rollupDtos.add(new PayoutDailyRollupDto(rollup.getRollupDate(), rollup.getStatus(),
+            rollup.getTransferType(), rollup.getTransactionCount(), rollup.getTotalAmount()));
+      }
+
+      Map<String, Object> response = new HashMap<>();
+      response.put("rollups", rollupDtos);
+      response.put("totalCount", totalCount);
+      response.put("totalAmount", totalAmount);
+      return baseResponse.successResponse(response);
+
+    } catch (Exception e) {
+      logger.error("❌ Exception occurred while fetching daily payout summary for memberId: {}", memberId, e);
+      return baseResponse.errorResponse(HttpStatus.INTERNAL_SERVER_ERROR,
+          "An unexpected error occurred while fetching payout summary");
+    }
+  }
+
+}
@@ -0,0 +1,141 @@
+package com.tektechno.payout.serviceimpl;
+
+import com.tektechno.payout.repository.RefreshTokenRepo;
+import com.tektechno.payout.repository.RevokedTokenRepo;
+import com.tektechno.payout.service.TokenRevocationService;
+import com.tektechno.payout.utilities.BloomFilter;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+
+/**
+ * Keeps the set of revoked token ids in a {@link BloomFilter} in front of the {@code revoked_token}
+ * table. A token id the filter has never seen is answered from memory without touching the
+ * database; only filter hits (real revocations and the rare false positive) are confirmed with a
+ * primary-key lookup.
+ * Revocations made on other nodes are picked up by {@link #syncRecentRevocations()}, and the filter is
+ * rebuilt from the table after expired rows are purged, since a Bloom filter cannot forget entries.
+ */
+@Service
+public class TokenRevocationServiceImpl implements TokenRevocationService {
+
+  private static final int LOAD_BATCH_SIZE = 5000;
+
+  /**
+   * Overlap applied to every incremental sync so that rows committed late, or stamped by a database
+   * clock slightly behind ours, are not missed. Re-adding an id to the filter is harmless.
+   */
+  private static final long SYNC_OVERLAP_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+  private static final Logger logger = LoggerFactory.getLogger(TokenRevocationServiceImpl.class);
+
+  @Value("${jwt.revocation.expected-entries:100000}")
+  private long expectedEntries;
+
+  @Value("${jwt.revocation.false-positive-probability:0.01}")
+  private double falsePositiveProbability;
+
+  @Autowired
+  private RevokedTokenRepo revokedTokenRepo;
+
+  @Autowired
+  private RefreshTokenRepo refreshTokenRepo;
+
+  private volatile BloomFilter revokedFilter;
+
+  private volatile boolean ready;
+
+  private volatile long lastSyncMillis;
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void rebuild() {
+    long start = System.currentTimeMillis();
+    BloomFilter filter = new BloomFilter(expectedEntries, falsePositiveProbability);
+    Date now = new Date(start);
+    long loaded = 0;
+    int pageNumber = 0;
+    Slice<String> slice;
+    do {
+      slice = revokedTokenRepo.findActiveTokenIds(now, PageRequest.of(pageNumber++, LOAD_BATCH_SIZE));
+      slice.forEach(filter::put);
+      loaded += slice.getNumberOfElements();
+    } while (slice.hasNext());
+
+    revokedFilter = filter;
+    lastSyncMillis = start;
+    ready = true;
+    syncRecentRevocations();
+    logger.info("Token revocation filter built with {} revoked id(s) in {} ms",
+        loaded, System.currentTimeMillis() - start);
+    if (loaded > expectedEntries) {
+      logger.warn("Revoked token count {} exceeds jwt.revocation.expected-entries={}, false positives will rise",
+          loaded, expectedEntries);
+    }
+  }
+
+  /**
+   * Returns true when the token id has been revoked. Ids the filter has never seen are answered
+   * without a database call; until the filter is built every check goes to the database.
+   *
+   * @param tokenId token id or token family id
+   * @return @{@link Boolean}
+   */
+  @Override
+  public boolean isRevoked(String tokenId) {
+    if (tokenId == null) {
+      return false;
+    }
+    if (ready && !revokedFilter.mightContain(tokenId)) {
+      return false;
+    }
+    return revokedTokenRepo.existsByTokenIdAndExpiresAtAfter(tokenId, new Date());
+  }
+
+  @Override
+  public void revoke(String tokenId, String reason, Date expiresAt) {
+    revokedTokenRepo.insertIfAbsent(tokenId, reason, expiresAt);
+    BloomFilter filter = revokedFilter;
+    if (filter != null) {
+      filter.put(tokenId);
+    }
+    logger.info("Token id revoked. TokenId: {}, Reason: {}", tokenId, reason);
+  }
+
+  @Override
+  public void syncRecentRevocations() {
+    BloomFilter filter = revokedFilter;
+    if (filter == null) {
+      return;
+    }
+    long start = System.currentTimeMillis();
+    try {
+      revokedTokenRepo.findTokenIdsRevokedSince(new Date(lastSyncMillis - SYNC_OVERLAP_MILLIS))
+          .forEach(filter::put);
+      lastSyncMillis = start;
+    } catch (Exception e) {
+      logger.error("Failed to sync revoked token ids. Error: {}", e.getMessage());
+    }
+  }
+
+  @Override
+  public void purgeExpiredAndRebuild() {
+    try {
+      Date now = new Date();
+      int revokedRows = revokedTokenRepo.deleteExpired(now);
+      int refreshRows = refreshTokenRepo.deleteExpired(now);
+      logger.info("Purged {} expired revoked token(s) and {} expired refresh token(s)", revokedRows, refreshRows);
+      rebuild();
+    } catch (Exception e) {
+      logger.error("Failed to purge and rebuild token revocation filter. Error: {}", e.getMessage(), e);
+    }
+  }
+
+}
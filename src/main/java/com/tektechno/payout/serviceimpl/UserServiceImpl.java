@@ -2,11 +2,10 @@ package com.tektechno.payout.serviceimpl;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.tektechno.payout.dto.response.UserResponseDto;
-import com.tektechno.payout.model.Users;
 import com.tektechno.payout.repository.UserRepository;
 import com.tektechno.payout.response.BaseResponse;
 import com.tektechno.payout.service.UserService;
-import java.util.Optional;
+import com.tektechno.payout.utilities.UserProfileCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -26,6 +25,9 @@ public class UserServiceImpl implements UserService {
   @Autowired
   private BaseResponse baseResponse;
 
+  @Autowired
+  private UserProfileCache userProfileCache;
+
   private static final Logger logger = LoggerFactory.getLogger(UserServiceImpl.class);
 
   @Override
@@ -33,15 +35,15 @@ public class UserServiceImpl implements UserService {
     try {
       logger.info("Fetching user details for userId: {}", userId);
 
-      Optional<Users> optionalUsers = userRepository.findById(userId);
+      UserResponseDto userResponseDto = userProfileCache.get(userId, id -> userRepository.findById(id)
+          .map(users -> objectMapper.convertValue(users, UserResponseDto.class))
+          .orElse(null));
 
-      if (optionalUsers.isEmpty()) {
+      if (userResponseDto == null) {
         logger.warn("User not found for userId: {}", userId);
         return baseResponse.errorResponse(HttpStatus.BAD_REQUEST, "User not found with the provided ID");
       }
 
-      UserResponseDto userResponseDto = objectMapper.convertValue(optionalUsers.get(), UserResponseDto.class);
-
       logger.info("Successfully fetched user details for userId: {}", userId);
       return baseResponse.successResponse(userResponseDto);
 
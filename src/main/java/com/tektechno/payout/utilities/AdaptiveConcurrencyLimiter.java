@@ -0,0 +1,216 @@
+package com.tektechno.payout.utilities;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Concurrency limiter whose limit follows the latency and error rate observed downstream, in the
+ * style of a gradient limiter.
+ * A long-term exponential average of the round-trip time serves as the no-load baseline. It follows
+ * lower round-trip times, but only rises on samples taken while less than half the limit is in use or
+ * at the minimum limit, so the queueing delay caused by the limit itself cannot become the baseline and
+ * ratchet the limit up. Each successful call compares the short-term average against the baseline:
+ * while latency stays within {@code rttTolerance} of it the limit grows by roughly {@code sqrt(limit)},
+ * and as latency rises it shrinks proportionally. A failed call (timeout, 5xx, open breaker) cuts the
+ * limit by {@link #BACKOFF_RATIO}. Samples taken while less than half the limit is in use do not raise
+ * it, so an idle period cannot inflate the limit. The limit always stays between the configured bounds.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+  private static final double BACKOFF_RATIO = 0.9;
+
+  private static final double LONG_RTT_ALPHA = 0.01;
+
+  private static final double SHORT_RTT_ALPHA = 0.2;
+
+  private static final int WARMUP_SAMPLES = 10;
+
+  private final String name;
+
+  private final int minLimit;
+
+  private final int maxLimit;
+
+  private final double rttTolerance;
+
+  private final double smoothing;
+
+  private final ReentrantLock lock = new ReentrantLock();
+
+  private final Condition permitReleased = lock.newCondition();
+
+  private double limit;
+
+  private int inFlight;
+
+  private double longRttNanos;
+
+  private double shortRttNanos;
+
+  private long samples;
+
+  public AdaptiveConcurrencyLimiter(String name, int initialLimit, int minLimit, int maxLimit,
+                                    double rttTolerance, double smoothing) {
+    this.name = name;
+    this.minLimit = Math.max(1, minLimit);
+    this.maxLimit = Math.max(this.minLimit, maxLimit);
+    this.rttTolerance = Math.max(1.0, rttTolerance);
+    this.smoothing = Math.min(1.0, Math.max(0.01, smoothing));
+    this.limit = Math.min(this.maxLimit, Math.max(this.minLimit, initialLimit));
+  }
+
+  /**
+   * Outcome handle of an admitted call. Exactly one of the outcome methods takes effect; later calls
+   * are ignored, so a {@code finally} block can safely call {@link #ignore()}.
+   */
+  public final class Permit {
+
+    private final long startNanos = System.nanoTime();
+
+    private final int inFlightAtStart;
+
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    private Permit(int inFlightAtStart) {
+      this.inFlightAtStart = inFlightAtStart;
+    }
+
+    /**
+     * The call succeeded; its round-trip time feeds the limit.
+     */
+    public void success() {
+      if (released.compareAndSet(false, true)) {
+        release(System.nanoTime() - startNanos, false, inFlightAtStart);
+      }
+    }
+
+    /**
+     * The call failed in a way that signals overload.
+     */
+    public void dropped() {
+      if (released.compareAndSet(false, true)) {
+        release(0, true, inFlightAtStart);
+      }
+    }
+
+    /**
+     * The call says nothing about downstream health (for example it failed validation locally).
+     */
+    public void ignore() {
+      if (released.compareAndSet(false, true)) {
+        release(-1, false, inFlightAtStart);
+      }
+    }
+  }
+
+  /**
+   * Waits until the call fits under the current limit.
+   *
+   * @return @{@link Permit}
+   * @throws InterruptedException when interrupted while waiting
+   */
+  public Permit acquire() throws InterruptedException {
+    lock.lock();
+    try {
+      while (inFlight >= (int) limit) {
+        permitReleased.await();
+      }
+      return new Permit(++inFlight);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Waits up to the given time for the call to fit under the current limit.
+   *
+   * @return @{@link Permit}, or null when the wait timed out
+   * @throws InterruptedException when interrupted while waiting
+   */
+  public Permit tryAcquire(long timeout, TimeUnit unit) throws InterruptedException {
+    long remainingNanos = unit.toNanos(timeout);
+    lock.lock();
+    try {
+      while (inFlight >= (int) limit) {
+        if (remainingNanos <= 0) {
+          return null;
+        }
+        remainingNanos = permitReleased.awaitNanos(remainingNanos);
+      }
+      return new Permit(++inFlight);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void release(long rttNanos, boolean dropped, int inFlightAtStart) {
+    lock.lock();
+    try {
+      inFlight--;
+      if (dropped) {
+        limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+      } else if (rttNanos > 0) {
+        updateLimit(rttNanos, inFlightAtStart);
+      }
+      permitReleased.signalAll();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void updateLimit(long rttNanos, int inFlightAtStart) {
+    samples++;
+    if (samples <= WARMUP_SAMPLES) {
+      longRttNanos += (rttNanos - longRttNanos) / samples;
+      shortRttNanos = longRttNanos;
+      return;
+    }
+    boolean lightlyLoaded = inFlightAtStart < limit / 2;
+    if (rttNanos < longRttNanos || lightlyLoaded || limit <= minLimit) {
+      longRttNanos += (rttNanos - longRttNanos) * LONG_RTT_ALPHA;
+    }
+    shortRttNanos += (rttNanos - shortRttNanos) * SHORT_RTT_ALPHA;
+
+    // After an overload ends the baseline would otherwise take a long time to come back down.
+    if (longRttNanos > 2 * shortRttNanos) {
+      longRttNanos *= 0.95;
+    }
+
+    double gradient = Math.max(0.5, Math.min(1.0, rttTolerance * longRttNanos / shortRttNanos));
+    double target = limit * gradient + Math.sqrt(limit);
+    double next = limit * (1 - smoothing) + target * smoothing;
+    if (next > limit && lightlyLoaded) {
+      return;
+    }
+    limit = Math.max(minLimit, Math.min(maxLimit, next));
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public int getLimit() {
+    lock.lock();
+    try {
+      return (int) limit;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public int getInFlight() {
+    lock.lock();
+    try {
+      return inFlight;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public int getMaxLimit() {
+    return maxLimit;
+  }
+
+}
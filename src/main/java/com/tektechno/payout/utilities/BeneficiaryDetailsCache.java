@@ -0,0 +1,274 @@
+package com.tektechno.payout.utilities;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tektechno.payout.client.CyrusCallGroup;
+import com.tektechno.payout.client.CyrusClient;
+import com.tektechno.payout.constant.CyrusApiConstant;
+import com.tektechno.payout.dto.response.BeneficiaryDetailsDto;
+import com.tektechno.payout.model.Beneficiary;
+import com.tektechno.payout.repository.BeneficiaryRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Read-through cache of Cyrus {@code BENEFICIARY_DETAILS} responses keyed by mobile number.
+ * Lookups are answered from memory first, then from the {@code beneficiary} table, where every
+ * beneficiary returned by Cyrus is stored together with its raw details, and only then from Cyrus.
+ * Entries older than the refresh interval are re-fetched in the background on their next access while
+ * the current value keeps being served; a failed refresh keeps the current value. When a miss finds
+ * only outdated stored details and Cyrus fails, the stored details are served rather than the error.
+ * {@link #invalidate(String)} must be called whenever a beneficiary with the mobile number is added or
+ * changed. Stored beneficiaries only get their {@code cyrus_details} and {@code details_synced_at}
+ * columns updated, so a background refresh never writes back other columns that a request changed
+ * meanwhile. Database and JSON work always runs on the cache's own pool, never on the HTTP client thread
+ * that completed the Cyrus call.
+ */
+@Component
+public class BeneficiaryDetailsCache {
+
+  private static final Logger logger = LoggerFactory.getLogger(BeneficiaryDetailsCache.class);
+
+  @Value("${beneficiary.details-cache.max-size:10000}")
+  private long maxSize;
+
+  @Value("${beneficiary.details-cache.refresh-after-seconds:900}")
+  private long refreshAfterSeconds;
+
+  @Value("${beneficiary.details-cache.expire-after-seconds:86400}")
+  private long expireAfterSeconds;
+
+  @Value("${beneficiary.details-cache.pool-size:4}")
+  private int poolSize;
+
+  @Value("${cyrus-api-member-id}")
+  private String cyrusApiMemberId;
+
+  @Autowired
+  private BeneficiaryRepository beneficiaryRepository;
+
+  @Autowired
+  private BeneficiarySearchIndex beneficiarySearchIndex;
+
+  @Autowired
+  private CyrusClient cyrusClient;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  private ExecutorService executor;
+
+  private AsyncLoadingCache<String, BeneficiaryDetailsDto> cache;
+
+  @PostConstruct
+  protected void init() {
+    executor = Executors.newFixedThreadPool(poolSize,
+        Thread.ofPlatform().name("beneficiary-details-", 0).daemon(true).factory());
+    cache = Caffeine.newBuilder()
+        .maximumSize(maxSize)
+        .refreshAfterWrite(Duration.ofSeconds(refreshAfterSeconds))
+        .expireAfterWrite(Duration.ofSeconds(expireAfterSeconds))
+        .executor(executor)
+        .recordStats()
+        .buildAsync(new AsyncCacheLoader<String, BeneficiaryDetailsDto>() {
+          @Override
+          public CompletableFuture<BeneficiaryDetailsDto> asyncLoad(String mobileNumber, Executor executor) {
+            return CompletableFuture.supplyAsync(() -> loadFromDatabase(mobileNumber, true), executor)
+                .thenCompose(local -> local != null
+                    ? CompletableFuture.completedFuture(local)
+                    : fetchAndStore(mobileNumber, executor)
+                        .exceptionallyComposeAsync(e -> loadStale(mobileNumber, e), executor));
+          }
+
+          @Override
+          public CompletableFuture<BeneficiaryDetailsDto> asyncReload(String mobileNumber,
+                                                                     BeneficiaryDetailsDto oldValue,
+                                                                     Executor executor) {
+            return fetchAndStore(mobileNumber, executor);
+          }
+        });
+    CaffeineCacheMetrics.monitor(meterRegistry, cache.synchronous(), "beneficiaryDetails");
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdown();
+  }
+
+  /**
+   * Returns the beneficiary details for a mobile number, loading them on a miss.
+   *
+   * @param mobileNumber beneficiary mobile number
+   * @return future completed with @{@link BeneficiaryDetailsDto}
+   */
+  public CompletableFuture<BeneficiaryDetailsDto> get(String mobileNumber) {
+    return cache.get(mobileNumber);
+  }
+
+  /**
+   * Evicts the cached details of a mobile number.
+   *
+   * @param mobileNumber beneficiary mobile number, ignored when null
+   */
+  public void invalidate(String mobileNumber) {
+    if (mobileNumber != null) {
+      cache.synchronous().invalidate(mobileNumber);
+    }
+  }
+
+  /**
+   * Rebuilds the response from stored rows when every beneficiary with the mobile number has stored
+   * details and, if {@code requireFresh} is set, those were fetched within the refresh interval.
+   */
+  private BeneficiaryDetailsDto loadFromDatabase(String mobileNumber, boolean requireFresh) {
+    List<Beneficiary> beneficiaries = beneficiaryRepository.findAllByBeneficiaryMobileNumber(mobileNumber);
+    if (beneficiaries.isEmpty()) {
+      return null;
+    }
+
+    long freshAfter = System.currentTimeMillis() - refreshAfterSeconds * 1000;
+    BeneficiaryDetailsDto details = null;
+    List<BeneficiaryDetailsDto.Data> data = new ArrayList<>();
+    for (Beneficiary beneficiary : beneficiaries) {
+      if (beneficiary.getCyrusDetails() == null || requireFresh && (beneficiary.getDetailsSyncedAt() == null
+          || beneficiary.getDetailsSyncedAt().getTime() < freshAfter)) {
+        return null;
+      }
+      BeneficiaryDetailsDto stored = readDetails(beneficiary.getCyrusDetails());
+      if (details == null) {
+        details = stored;
+      }
+      if (stored.getData() != null) {
+        data.addAll(stored.getData());
+      }
+    }
+    details.setData(data);
+    logger.debug("Beneficiary details for mobile number {} served from {} stored beneficiaries",
+        mobileNumber, beneficiaries.size());
+    return details;
+  }
+
+  /**
+   * Falls back to outdated stored details after a failed Cyrus fetch; fails with the fetch error when
+   * nothing usable is stored.
+   */
+  private CompletableFuture<BeneficiaryDetailsDto> loadStale(String mobileNumber, Throwable error) {
+    BeneficiaryDetailsDto stored = null;
+    try {
+      stored = loadFromDatabase(mobileNumber, false);
+    } catch (RuntimeException e) {
+      logger.warn("Unable to read stored beneficiary details for mobile number: {}. Error: {}",
+          mobileNumber, e.getMessage());
+    }
+    if (stored == null) {
+      return CompletableFuture.failedFuture(error);
+    }
+    logger.warn("Cyrus beneficiary details fetch failed for mobile number: {}, serving stored details. Error: {}",
+        mobileNumber, error.getMessage());
+    return CompletableFuture.completedFuture(stored);
+  }
+
+  private CompletableFuture<BeneficiaryDetailsDto> fetchAndStore(String mobileNumber, Executor executor) {
+    logger.info("Fetching beneficiary details from Cyrus for mobile number: {}", mobileNumber);
+    return cyrusClient.read(CyrusCallGroup.REFERENCE, CyrusApiConstant.ADD_BENEFICIARY_URL, "BENEFICIARY_DETAILS",
+            Map.of("beneficiary_phone", mobileNumber))
+        .thenApplyAsync(body -> {
+          BeneficiaryDetailsDto details = readDetails(body);
+          if (details.getData() != null) {
+            details.getData().forEach(item -> store(details, item));
+          }
+          return details;
+        }, executor);
+  }
+
+  private void store(BeneficiaryDetailsDto details, BeneficiaryDetailsDto.Data item) {
+    if (!StringUtils.isNotNullAndNotEmpty(item.getBeneficiaryId())) {
+      return;
+    }
+    try {
+      BeneficiaryDetailsDto single = new BeneficiaryDetailsDto();
+      single.setStatuscode(details.getStatuscode());
+      single.setStatus(details.getStatus());
+      single.setData(List.of(item));
+
+      String cyrusDetails = objectMapper.writeValueAsString(single);
+      Date syncedAt = new Date();
+      if (beneficiaryRepository.updateCyrusDetails(item.getBeneficiaryId(), cyrusDetails, syncedAt) > 0) {
+        return;
+      }
+
+      Beneficiary beneficiary = newBeneficiary(item);
+      beneficiary.setCyrusDetails(cyrusDetails);
+      beneficiary.setDetailsSyncedAt(syncedAt);
+      beneficiaryRepository.save(beneficiary);
+      beneficiarySearchIndex.index(beneficiary);
+    } catch (Exception e) {
+      logger.warn("Unable to store Cyrus details for beneficiary ID: {}. Error: {}",
+          item.getBeneficiaryId(), e.getMessage());
+    }
+  }
+
+  /**
+   * Beneficiaries registered with Cyrus outside this service are recorded from the details response.
+   */
+  private Beneficiary newBeneficiary(BeneficiaryDetailsDto.Data item) {
+    Beneficiary beneficiary = new Beneficiary();
+    beneficiary.setMemberId(cyrusApiMemberId);
+    beneficiary.setBeneficiaryId(item.getBeneficiaryId());
+    beneficiary.setBeneType(item.getBeneType());
+    beneficiary.setBeneficiaryBankAccountNumber(item.getBankAccountNumber());
+    beneficiary.setBeneficiaryBankIfscCode(item.getBankIfscCode());
+    beneficiary.setBeneficiaryBankName("");
+    beneficiary.setBeneficiaryName(item.getAccountHolderName());
+    beneficiary.setBeneficiaryEmail(item.getEmail());
+    beneficiary.setBeneficiaryMobileNumber(item.getPhone());
+    beneficiary.setBeneficiaryPan(item.getPan());
+    beneficiary.setBeneficiaryAadhaar(item.getAadhar());
+    beneficiary.setBeneficiaryAddress(item.getBeneficiaryAddress());
+    beneficiary.setLatitude(0L);
+    beneficiary.setLongitude(0L);
+
+    String latLong = item.getLatLong();
+    if (latLong != null && latLong.contains(",")) {
+      String[] parts = latLong.split(",");
+      try {
+        beneficiary.setLatitude(Long.valueOf(parts[0].trim()));
+        beneficiary.setLongitude(Long.valueOf(parts[1].trim()));
+      } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+        logger.warn("Invalid latLong format: {}", latLong);
+      }
+    }
+    return beneficiary;
+  }
+
+  private BeneficiaryDetailsDto readDetails(String body) {
+    try {
+      return objectMapper.readValue(body, BeneficiaryDetailsDto.class);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Unreadable Cyrus response: " + e.getOriginalMessage(), e);
+    }
+  }
+
+}
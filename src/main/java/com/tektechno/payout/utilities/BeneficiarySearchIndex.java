@@ -0,0 +1,380 @@
+package com.tektechno.payout.utilities;
+
+import com.tektechno.payout.dto.response.BeneficiarySearchResultDto;
+import com.tektechno.payout.model.Beneficiary;
+import com.tektechno.payout.repository.BeneficiaryRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.sql.DataSource;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory typeahead index over active beneficiaries.
+ * Every beneficiary is indexed under the prefixes of each word of its name, the prefixes of its
+ * mobile number and IFSC code, and the trailing digits of its account number. All keys share one
+ * posting map, so a query token is answered with a single hash lookup and multi-token queries are
+ * answered by intersecting the (smallest first) posting sets.
+ * The index is built from the {@code beneficiary} table at startup and kept current by calling
+ * {@link #index(Beneficiary)} whenever a beneficiary is added or updated. Each such call is also
+ * broadcast with Postgres {@code NOTIFY}, and every node {@code LISTEN}s on the same channel over a
+ * dedicated connection and re-indexes the beneficiary from the table, so the index stays current on
+ * every node. Whenever the listener connection is lost the index is rebuilt once it is back, since
+ * notifications sent in the meantime are gone.
+ * Queries need at least one token of {@code beneficiary.search.min-query-length} characters, so a
+ * one-character prefix never drives a walk over the posting set of nearly every beneficiary.
+ */
+@Component
+public class BeneficiarySearchIndex {
+
+  private static final int MAX_KEY_LENGTH = 20;
+
+  private static final int MIN_ACCOUNT_SUFFIX_LENGTH = 3;
+
+  private static final int LOAD_BATCH_SIZE = 1000;
+
+  private static final String CHANNEL = "beneficiary_search_index";
+
+  private static final long RECONNECT_DELAY_MILLIS = 5000;
+
+  private static final Logger logger = LoggerFactory.getLogger(BeneficiarySearchIndex.class);
+
+  @Value("${beneficiary.search.min-query-length:2}")
+  private int minQueryLength;
+
+  @Value("${beneficiary.search.cross-node-indexing:true}")
+  private boolean crossNodeIndexing;
+
+  @Autowired
+  private BeneficiaryRepository beneficiaryRepository;
+
+  @Autowired
+  private DataSource dataSource;
+
+  @Autowired
+  private DataSourceProperties dataSourceProperties;
+
+  private JdbcTemplate jdbcTemplate;
+
+  private volatile boolean running;
+
+  private Thread listenerThread;
+
+  private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+
+  private final Map<Long, IndexedBeneficiary> documents = new ConcurrentHashMap<>();
+
+  private volatile boolean ready;
+
+  private record IndexedBeneficiary(BeneficiarySearchResultDto result, String sortKey, Set<String> keys,
+                                    String searchableText) {
+  }
+
+  @PostConstruct
+  protected void init() {
+    jdbcTemplate = new JdbcTemplate(dataSource);
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void rebuild() {
+    long start = System.currentTimeMillis();
+    int pageNumber = 0;
+    Page<Beneficiary> page;
+    do {
+      page = beneficiaryRepository.findAll(PageRequest.of(pageNumber++, LOAD_BATCH_SIZE, Sort.by("id")));
+      page.forEach(this::apply);
+    } while (page.hasNext());
+    ready = true;
+    logger.info("Beneficiary search index built with {} beneficiaries and {} keys in {} ms",
+        documents.size(), postings.size(), System.currentTimeMillis() - start);
+  }
+
+  public boolean isReady() {
+    return ready;
+  }
+
+  public int getMinQueryLength() {
+    return minQueryLength;
+  }
+
+  /**
+   * Returns whether the query has at least one token of {@link #getMinQueryLength()} characters.
+   *
+   * @param query free text as passed to {@link #search(String, int)}
+   * @return true when the query can be searched
+   */
+  public boolean isSearchable(String query) {
+    for (String token : normalize(query).split("\\s+")) {
+      if (token.length() >= minQueryLength) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Adds or replaces a beneficiary in the index on this node and notifies every other node to
+   * re-index it. Inactive beneficiaries are removed.
+   *
+   * @param beneficiary @{@link Beneficiary}
+   */
+  public void index(Beneficiary beneficiary) {
+    if (beneficiary == null || beneficiary.getId() == null) {
+      return;
+    }
+    apply(beneficiary);
+    if (!crossNodeIndexing) {
+      return;
+    }
+    try {
+      jdbcTemplate.queryForObject("SELECT pg_notify(?, ?)", Object.class, CHANNEL,
+          String.valueOf(beneficiary.getId()));
+    } catch (Exception e) {
+      logger.error("Failed to publish beneficiary search index update for id: {}. Error: {}",
+          beneficiary.getId(), e.getMessage());
+    }
+  }
+
+  private void apply(Beneficiary beneficiary) {
+    remove(beneficiary.getId());
+    if (!beneficiary.isStatus()) {
+      return;
+    }
+
+    Set<String> keys = new HashSet<>();
+    String name = normalize(beneficiary.getBeneficiaryName());
+    for (String word : name.split("\\s+")) {
+      addPrefixes(keys, word);
+    }
+    addPrefixes(keys, normalize(beneficiary.getBeneficiaryMobileNumber()));
+    addPrefixes(keys, normalize(beneficiary.getBeneficiaryBankIfscCode()));
+    addSuffixes(keys, normalize(beneficiary.getBeneficiaryBankAccountNumber()));
+
+    String accountNumber = beneficiary.getBeneficiaryBankAccountNumber();
+    String accountNumberSuffix = accountNumber == null || accountNumber.length() <= 4
+        ? accountNumber : accountNumber.substring(accountNumber.length() - 4);
+
+    BeneficiarySearchResultDto result = new BeneficiarySearchResultDto(
+        beneficiary.getBeneficiaryId(),
+        beneficiary.getBeneficiaryName(),
+        accountNumberSuffix,
+        beneficiary.getBeneficiaryMobileNumber(),
+        beneficiary.getBeneficiaryBankIfscCode());
+    String searchableText = String.join(" ", name, normalize(beneficiary.getBeneficiaryMobileNumber()),
+        normalize(beneficiary.getBeneficiaryBankIfscCode()), normalize(accountNumber));
+
+    documents.put(beneficiary.getId(), new IndexedBeneficiary(result, name, keys, searchableText));
+    for (String key : keys) {
+      postings.compute(key, (k, ids) -> {
+        Set<Long> updated = ids == null ? ConcurrentHashMap.newKeySet() : ids;
+        updated.add(beneficiary.getId());
+        return updated;
+      });
+    }
+  }
+
+  /**
+   * Removes a beneficiary from the index.
+   *
+   * @param id primary key of the beneficiary
+   */
+  public void remove(Long id) {
+    IndexedBeneficiary existing = documents.remove(id);
+    if (existing == null) {
+      return;
+    }
+    for (String key : existing.keys()) {
+      postings.computeIfPresent(key, (k, ids) -> {
+        ids.remove(id);
+        return ids.isEmpty() ? null : ids;
+      });
+    }
+  }
+
+  /**
+   * Returns up to {@code limit} beneficiaries matching every token of the query, ordered by name.
+   *
+   * @param query free text (name words, mobile prefix, IFSC prefix or account number suffix)
+   * @param limit maximum number of results
+   * @return @{@link List}
+   */
+  public List<BeneficiarySearchResultDto> search(String query, int limit) {
+    String normalized = normalize(query);
+    if (!isSearchable(normalized) || limit <= 0) {
+      return List.of();
+    }
+
+    List<String> tokens = new ArrayList<>();
+    List<Set<Long>> candidateSets = new ArrayList<>();
+    for (String token : normalized.split("\\s+")) {
+      Set<Long> ids = postings.get(truncate(token));
+      if (ids == null) {
+        return List.of();
+      }
+      tokens.add(token);
+      candidateSets.add(ids);
+    }
+    candidateSets.sort(Comparator.comparingInt(Set::size));
+
+    Comparator<IndexedBeneficiary> bySortKey = Comparator.comparing(IndexedBeneficiary::sortKey);
+    PriorityQueue<IndexedBeneficiary> topMatches = new PriorityQueue<>(limit + 1, bySortKey.reversed());
+
+    for (Long id : candidateSets.getFirst()) {
+      if (!containsInAll(candidateSets, id)) {
+        continue;
+      }
+      IndexedBeneficiary document = documents.get(id);
+      if (document == null || !matchesLongTokens(document, tokens)) {
+        continue;
+      }
+      topMatches.offer(document);
+      if (topMatches.size() > limit) {
+        topMatches.poll();
+      }
+    }
+
+    List<IndexedBeneficiary> ordered = new ArrayList<>(topMatches);
+    ordered.sort(bySortKey);
+    List<BeneficiarySearchResultDto> results = new ArrayList<>(ordered.size());
+    ordered.forEach(document -> results.add(document.result()));
+    return Collections.unmodifiableList(results);
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void startListener() {
+    if (!crossNodeIndexing || running) {
+      return;
+    }
+    running = true;
+    listenerThread = new Thread(this::listen, "beneficiary-search-index-listener");
+    listenerThread.setDaemon(true);
+    listenerThread.start();
+  }
+
+  @PreDestroy
+  protected void stopListener() {
+    running = false;
+    if (listenerThread != null) {
+      listenerThread.interrupt();
+    }
+  }
+
+  private void listen() {
+    boolean reconnect = false;
+    while (running) {
+      try (Connection connection = DriverManager.getConnection(dataSourceProperties.determineUrl(),
+          dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword())) {
+        try (Statement statement = connection.createStatement()) {
+          statement.execute("LISTEN " + CHANNEL);
+        }
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        logger.info("Listening for beneficiary search index updates on channel {}", CHANNEL);
+        if (reconnect) {
+          rebuild();
+        }
+
+        while (running) {
+          PGNotification[] notifications = pgConnection.getNotifications(1000);
+          if (notifications == null) {
+            continue;
+          }
+          for (PGNotification notification : notifications) {
+            applyNotification(notification.getParameter());
+          }
+        }
+      } catch (SQLException e) {
+        if (!running) {
+          return;
+        }
+        logger.error("Beneficiary search index listener disconnected, rebuilding on reconnect. Error: {}",
+            e.getMessage());
+        reconnect = true;
+        try {
+          Thread.sleep(RECONNECT_DELAY_MILLIS);
+        } catch (InterruptedException ie) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+      }
+    }
+  }
+
+  private void applyNotification(String payload) {
+    try {
+      Long id = Long.valueOf(payload);
+      beneficiaryRepository.findById(id).ifPresentOrElse(this::apply, () -> remove(id));
+    } catch (NumberFormatException e) {
+      logger.warn("Ignoring malformed beneficiary search index payload: {}", payload);
+    } catch (Exception e) {
+      logger.error("Failed to re-index beneficiary for payload: {}. Error: {}", payload, e.getMessage());
+    }
+  }
+
+  private static boolean containsInAll(List<Set<Long>> candidateSets, Long id) {
+    for (int i = 1; i < candidateSets.size(); i++) {
+      if (!candidateSets.get(i).contains(id)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Keys are capped at {@link #MAX_KEY_LENGTH}; longer tokens are verified against the full text.
+   */
+  private static boolean matchesLongTokens(IndexedBeneficiary document, List<String> tokens) {
+    for (String token : tokens) {
+      if (token.length() > MAX_KEY_LENGTH && !document.searchableText().contains(token)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static void addPrefixes(Set<String> keys, String value) {
+    for (int length = 1; length <= Math.min(value.length(), MAX_KEY_LENGTH); length++) {
+      keys.add(value.substring(0, length));
+    }
+  }
+
+  private static void addSuffixes(Set<String> keys, String value) {
+    for (int length = MIN_ACCOUNT_SUFFIX_LENGTH; length <= Math.min(value.length(), MAX_KEY_LENGTH); length++) {
+      keys.add(value.substring(value.length() - length));
+    }
+  }
+
+  private static String truncate(String token) {
+    return token.length() > MAX_KEY_LENGTH ? token.substring(0, MAX_KEY_LENGTH) : token;
+  }
+
+  private static String normalize(String value) {
+    return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+  }
+
+}
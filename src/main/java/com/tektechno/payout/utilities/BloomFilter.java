@@ -0,0 +1,97 @@
+package com.tektechno.payout.utilities;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size, thread-safe Bloom filter over strings.
+ * {@link #mightContain(String)} never returns false for a value that was added, and returns true for
+ * a value that was not added with roughly the false-positive probability the filter was sized for.
+ * Bits are set with lock-free CAS operations, so concurrent {@link #put(String)} and
+ * {@link #mightContain(String)} calls need no external locking.
+ */
+public class BloomFilter {
+
+  private final AtomicLongArray bits;
+
+  private final long bitCount;
+
+  private final int hashCount;
+
+  /**
+   * Sizes the filter for the expected number of entries and the target false-positive probability.
+   *
+   * @param expectedEntries         number of values the filter is expected to hold
+   * @param falsePositiveProbability target false-positive probability, e.g. {@code 0.01}
+   */
+  public BloomFilter(long expectedEntries, double falsePositiveProbability) {
+    long entries = Math.max(1, expectedEntries);
+    long optimalBits = (long) Math.ceil(-entries * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2)));
+    this.bitCount = Math.max(64, optimalBits);
+    this.hashCount = Math.max(1, (int) Math.round((double) bitCount / entries * Math.log(2)));
+    this.bits = new AtomicLongArray((int) ((bitCount + 63) / 64));
+  }
+
+  public void put(String value) {
+    long hash = hash64(value);
+    int hash1 = (int) hash;
+    int hash2 = (int) (hash >>> 32);
+    for (int i = 1; i <= hashCount; i++) {
+      setBit(bitIndex(hash1, hash2, i));
+    }
+  }
+
+  public boolean mightContain(String value) {
+    long hash = hash64(value);
+    int hash1 = (int) hash;
+    int hash2 = (int) (hash >>> 32);
+    for (int i = 1; i <= hashCount; i++) {
+      long index = bitIndex(hash1, hash2, i);
+      if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Kirsch-Mitzenmacher double hashing: the i-th probe is {@code hash1 + i * hash2}.
+   */
+  private long bitIndex(int hash1, int hash2, int i) {
+    int combined = hash1 + i * hash2;
+    if (combined < 0) {
+      combined = ~combined;
+    }
+    return combined % bitCount;
+  }
+
+  private void setBit(long index) {
+    int word = (int) (index >>> 6);
+    long mask = 1L << index;
+    long current;
+    do {
+      current = bits.get(word);
+      if ((current & mask) != 0) {
+        return;
+      }
+    } while (!bits.compareAndSet(word, current, current | mask));
+  }
+
+  /**
+   * 64-bit FNV-1a over the UTF-8 bytes, finished with the MurmurHash3 avalanche step.
+   */
+  private static long hash64(String value) {
+    long hash = 0xcbf29ce484222325L;
+    for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+      hash ^= b & 0xff;
+      hash *= 0x100000001b3L;
+    }
+    hash ^= hash >>> 33;
+    hash *= 0xff51afd7ed558ccdL;
+    hash ^= hash >>> 33;
+    hash *= 0xc4ceb9fe1a85ec53L;
+    hash ^= hash >>> 33;
+    return hash;
+  }
+
+}
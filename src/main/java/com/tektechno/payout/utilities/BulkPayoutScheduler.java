@@ -0,0 +1,332 @@
+package com.tektechno.payout.utilities;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fair-share scheduler for bulk payout rows across members.
+ * Rows are queued per member and a single dispatcher hands them to the bulk executor in deficit
+ * round-robin order: on each turn a member may start as many rows as its weight, so a member with a
+ * 50k-row job cannot hold back the rows of other members. A member never has more than its
+ * concurrency cap of rows running, and every row still needs a permit of the adaptive bulk limiter,
+ * which bounds the total. Rows still queued when the scheduler stops fail with
+ * {@link IllegalStateException}.
+ * Weights and caps default to {@code payout.fair-share.default-weight} and
+ * {@code payout.fair-share.default-max-concurrency} and can be set per member under
+ * {@code payout.fair-share.members.<memberId>}.
+ */
+@Component
+public class BulkPayoutScheduler {
+
+  private static final Logger logger = LoggerFactory.getLogger(BulkPayoutScheduler.class);
+
+  @Value("${payout.fair-share.default-weight:1}")
+  private int defaultWeight;
+
+  @Value("${payout.fair-share.default-max-concurrency:12}")
+  private int defaultMaxConcurrency;
+
+  @Autowired
+  private Environment environment;
+
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  @Autowired
+  private ExecutorService bulkPayoutExecutor;
+
+  @Autowired
+  private AdaptiveConcurrencyLimiter bulkPayoutConcurrencyLimiter;
+
+  private final ReentrantLock lock = new ReentrantLock();
+
+  private final Condition workAvailable = lock.newCondition();
+
+  private final Map<String, MemberQueue> members = new HashMap<>();
+
+  private final ArrayDeque<MemberQueue> activeMembers = new ArrayDeque<>();
+
+  private int queuedRows;
+
+  private volatile boolean running = true;
+
+  private Thread dispatcher;
+
+  private record Row(MemberQueue member, Consumer<AdaptiveConcurrencyLimiter.Permit> work,
+                     SecurityContext securityContext, CompletableFuture<Void> done) {
+  }
+
+  private static final class MemberQueue {
+
+    private final String memberId;
+
+    private final int weight;
+
+    private final int maxConcurrency;
+
+    private final ArrayDeque<Row> rows = new ArrayDeque<>();
+
+    private int deficit;
+
+    private int inFlight;
+
+    private MemberQueue(String memberId, int weight, int maxConcurrency) {
+      this.memberId = memberId;
+      this.weight = weight;
+      this.maxConcurrency = maxConcurrency;
+    }
+  }
+
+  @PostConstruct
+  public void start() {
+    Gauge.builder("payout.bulk.queue.depth", this, BulkPayoutScheduler::getQueuedRows).register(meterRegistry);
+    dispatcher = new Thread(this::dispatch, "bulk-fair-share-dispatcher");
+    dispatcher.setDaemon(true);
+    dispatcher.start();
+  }
+
+  @PreDestroy
+  public void stop() {
+    List<Row> dropped = new ArrayList<>();
+    lock.lock();
+    try {
+      running = false;
+      for (MemberQueue member : activeMembers) {
+        dropped.addAll(member.rows);
+        member.rows.clear();
+        member.deficit = 0;
+      }
+      activeMembers.clear();
+      queuedRows = 0;
+      members.values().removeIf(member -> member.inFlight == 0);
+      workAvailable.signal();
+    } finally {
+      lock.unlock();
+    }
+    dispatcher.interrupt();
+
+    IllegalStateException stopped = new IllegalStateException("Bulk payout scheduler stopped");
+    for (Row row : dropped) {
+      row.done().completeExceptionally(stopped);
+    }
+    if (!dropped.isEmpty()) {
+      logger.warn("Bulk payout scheduler stopped, failed {} queued row(s)", dropped.size());
+    }
+  }
+
+  /**
+   * Queues one bulk row of a member. The work receives the bulk limiter permit that admitted it; the
+   * permit is released by the scheduler once the work returns.
+   *
+   * @param memberId member that owns the row
+   * @param work     the row to run
+   * @return future completed when the row has run, or failed when the scheduler stopped first
+   */
+  public CompletableFuture<Void> submit(String memberId, Consumer<AdaptiveConcurrencyLimiter.Permit> work) {
+    CompletableFuture<Void> done = new CompletableFuture<>();
+    SecurityContext securityContext = SecurityContextHolder.getContext();
+    lock.lock();
+    try {
+      if (!running) {
+        return CompletableFuture.failedFuture(new IllegalStateException("Bulk payout scheduler stopped"));
+      }
+      MemberQueue member = members.computeIfAbsent(memberId, this::newMemberQueue);
+      if (member.rows.isEmpty()) {
+        activeMembers.addLast(member);
+      }
+      member.rows.addLast(new Row(member, work, securityContext, done));
+      queuedRows++;
+      workAvailable.signal();
+    } finally {
+      lock.unlock();
+    }
+    return done;
+  }
+
+  /**
+   * Returns the queued and running rows, weight and cap of every member with bulk work.
+   *
+   * @return @{@link Map}
+   */
+  public Map<String, Map<String, Object>> snapshot() {
+    Map<String, Map<String, Object>> snapshot = new TreeMap<>();
+    lock.lock();
+    try {
+      for (MemberQueue member : members.values()) {
+        Map<String, Object> state = new LinkedHashMap<>();
+        state.put("queued", member.rows.size());
+        state.put("inFlight", member.inFlight);
+        state.put("weight", member.weight);
+        state.put("maxConcurrency", member.maxConcurrency);
+        snapshot.put(member.memberId, state);
+      }
+    } finally {
+      lock.unlock();
+    }
+    return snapshot;
+  }
+
+  public int getQueuedRows() {
+    lock.lock();
+    try {
+      return queuedRows;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private MemberQueue newMemberQueue(String memberId) {
+    String prefix = "payout.fair-share.members." + memberId;
+    return new MemberQueue(memberId,
+        Math.max(1, environment.getProperty(prefix + ".weight", Integer.class, defaultWeight)),
+        Math.max(1, environment.getProperty(prefix + ".max-concurrency", Integer.class, defaultMaxConcurrency)));
+  }
+
+  private void dispatch() {
+    while (running) {
+      try {
+        Row row = awaitRow();
+        if (row != null) {
+          startRow(row);
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      } catch (Throwable e) {
+        logger.error("Bulk payout dispatcher failed, continuing", e);
+      }
+    }
+  }
+
+  /**
+   * Waits for the next row to start.
+   *
+   * @return the row, or null once the scheduler stopped
+   */
+  private Row awaitRow() throws InterruptedException {
+    lock.lock();
+    try {
+      while (running) {
+        Row row = nextRow();
+        if (row != null) {
+          return row;
+        }
+        workAvailable.await();
+      }
+      return null;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Hands a row to the bulk executor once the bulk limiter admits it. A row that cannot be started is
+   * finished with the failure, so its member slot and limiter permit are given back.
+   */
+  private void startRow(Row row) throws InterruptedException {
+    AdaptiveConcurrencyLimiter.Permit permit;
+    try {
+      permit = bulkPayoutConcurrencyLimiter.acquire();
+    } catch (InterruptedException e) {
+      finish(row, new IllegalStateException("Bulk payout scheduler stopped"));
+      throw e;
+    } catch (Throwable e) {
+      logger.error("Failed to start bulk row of memberId: {}", row.member().memberId, e);
+      finish(row, e);
+      return;
+    }
+
+    try {
+      bulkPayoutExecutor.execute(new DelegatingSecurityContextRunnable(() -> run(row, permit),
+          row.securityContext()));
+    } catch (Throwable e) {
+      logger.error("Failed to start bulk row of memberId: {}", row.member().memberId, e);
+      permit.ignore();
+      finish(row, e);
+    }
+  }
+
+  private void run(Row row, AdaptiveConcurrencyLimiter.Permit permit) {
+    try {
+      row.work().accept(permit);
+      finish(row, null);
+    } catch (Throwable e) {
+      finish(row, e);
+    } finally {
+      permit.ignore();
+    }
+  }
+
+  /**
+   * Picks the next row in deficit round-robin order, skipping members at their concurrency cap.
+   * Must hold {@link #lock}.
+   */
+  private Row nextRow() {
+    for (int visited = 0; visited < activeMembers.size(); visited++) {
+      MemberQueue member = activeMembers.peekFirst();
+      if (member.inFlight >= member.maxConcurrency) {
+        activeMembers.addLast(activeMembers.pollFirst());
+        continue;
+      }
+      if (member.deficit <= 0) {
+        member.deficit += member.weight;
+      }
+
+      Row row = member.rows.pollFirst();
+      member.deficit--;
+      member.inFlight++;
+      queuedRows--;
+      if (member.rows.isEmpty()) {
+        activeMembers.pollFirst();
+        member.deficit = 0;
+      } else if (member.deficit <= 0) {
+        activeMembers.addLast(activeMembers.pollFirst());
+      }
+      return row;
+    }
+    return null;
+  }
+
+  private void finish(Row row, Throwable error) {
+    MemberQueue member = row.member();
+    lock.lock();
+    try {
+      member.inFlight--;
+      if (member.inFlight == 0 && member.rows.isEmpty()) {
+        members.remove(member.memberId, member);
+      }
+      workAvailable.signal();
+    } finally {
+      lock.unlock();
+    }
+    if (error == null) {
+      row.done().complete(null);
+    } else {
+      row.done().completeExceptionally(error);
+    }
+  }
+
+}
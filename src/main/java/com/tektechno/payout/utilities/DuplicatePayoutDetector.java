@@ -0,0 +1,180 @@
+package com.tektechno.payout.utilities;
+
+import com.tektechno.payout.projection.RecentPayoutProjection;
+import com.tektechno.payout.repository.SendMoneyHistoryRepo;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Date;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Detects payouts that repeat the same (beneficiary, amount, transfer type) within a configurable
+ * window, for single and bulk payouts alike.
+ * The last payout time of every key is held in memory, so a check is a single atomic map update. Keys
+ * are also filed under one-minute buckets so expired keys are dropped bucket by bucket without
+ * scanning the whole index. The index is rebuilt from recent {@code send_money_history} rows at startup.
+ * In {@code FLAG} mode duplicates are logged and counted but still paid; in {@code BLOCK} mode they are
+ * refused.
+ */
+@Component
+public class DuplicatePayoutDetector {
+
+  /**
+   * What happens to a duplicate payout.
+   */
+  public enum Mode {
+    OFF,
+    FLAG,
+    BLOCK
+  }
+
+  private static final long BUCKET_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+  private static final Logger logger = LoggerFactory.getLogger(DuplicatePayoutDetector.class);
+
+  @Value("${payout.duplicate-detection.mode:FLAG}")
+  private Mode mode;
+
+  @Value("${payout.duplicate-detection.window-minutes:10}")
+  private long windowMinutes;
+
+  @Autowired
+  private SendMoneyHistoryRepo sendMoneyHistoryRepo;
+
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  private final Map<String, Long> lastPayoutByKey = new ConcurrentHashMap<>();
+
+  private final Map<Long, Set<String>> keysByBucket = new ConcurrentHashMap<>();
+
+  /**
+   * Result of {@link #reserve(String, Long, String, String)}.
+   */
+  public final class Reservation {
+
+    private final String key;
+
+    private final long timestamp;
+
+    private final Long previousPayoutAt;
+
+    private Reservation(String key, long timestamp, Long previousPayoutAt) {
+      this.key = key;
+      this.timestamp = timestamp;
+      this.previousPayoutAt = previousPayoutAt;
+    }
+
+    /**
+     * True when the payout must not be sent.
+     */
+    public boolean isBlocked() {
+      return previousPayoutAt != null && mode == Mode.BLOCK;
+    }
+
+    public Date getPreviousPayoutAt() {
+      return previousPayoutAt == null ? null : new Date(previousPayoutAt);
+    }
+
+    /**
+     * Forgets this payout again, for payouts that were definitely not sent.
+     */
+    public void release() {
+      if (key != null && !isBlocked()) {
+        lastPayoutByKey.computeIfPresent(key, (k, last) -> last == timestamp ? previousPayoutAt : last);
+      }
+    }
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void rebuild() {
+    if (mode == Mode.OFF) {
+      return;
+    }
+    Date since = new Date(System.currentTimeMillis() - TimeUnit.MINUTES.toMillis(windowMinutes));
+    int loaded = 0;
+    for (RecentPayoutProjection payout : sendMoneyHistoryRepo.findPayoutsSince(since)) {
+      if (payout.getCreatedAt() != null) {
+        record(key(payout.getBeneficiaryId(), payout.getAmount(), payout.getTransferType()),
+            payout.getCreatedAt().getTime());
+        loaded++;
+      }
+    }
+    logger.info("Duplicate payout index rebuilt from {} payout(s) of the last {} minute(s)", loaded, windowMinutes);
+  }
+
+  /**
+   * Registers a payout that is about to be sent and reports whether it repeats one made within the
+   * window. A blocked payout is not registered.
+   *
+   * @param beneficiaryId Cyrus beneficiary id
+   * @param amount        amount
+   * @param transferType  transfer type
+   * @param flow          {@code single} or {@code bulk}, for metrics
+   * @return @{@link Reservation}
+   */
+  public Reservation reserve(String beneficiaryId, Long amount, String transferType, String flow) {
+    if (mode == Mode.OFF) {
+      return new Reservation(null, 0, null);
+    }
+
+    String key = key(beneficiaryId, amount, transferType);
+    long now = System.currentTimeMillis();
+    long windowStart = now - TimeUnit.MINUTES.toMillis(windowMinutes);
+    Long[] previous = new Long[1];
+    lastPayoutByKey.compute(key, (k, last) -> {
+      if (last != null && last >= windowStart) {
+        previous[0] = last;
+        if (mode == Mode.BLOCK) {
+          return last;
+        }
+      }
+      return now;
+    });
+
+    if (previous[0] == null || mode == Mode.FLAG) {
+      keysByBucket.computeIfAbsent(now / BUCKET_MILLIS, bucket -> ConcurrentHashMap.newKeySet()).add(key);
+    }
+    if (previous[0] != null) {
+      meterRegistry.counter("payout.duplicates.detected", "mode", mode.name(), "flow", flow).increment();
+      logger.warn("Duplicate payout {} ({}): Beneficiary ID {}, amount {}, transfer type {}, previous payout at {}",
+          mode == Mode.BLOCK ? "blocked" : "flagged", flow, beneficiaryId, amount, transferType,
+          new Date(previous[0]));
+    }
+    return new Reservation(key, now, previous[0]);
+  }
+
+  @Scheduled(fixedDelay = 60000)
+  public void evictExpired() {
+    long windowStart = System.currentTimeMillis() - TimeUnit.MINUTES.toMillis(windowMinutes);
+    long oldestLiveBucket = windowStart / BUCKET_MILLIS;
+    keysByBucket.entrySet().removeIf(bucket -> {
+      if (bucket.getKey() >= oldestLiveBucket) {
+        return false;
+      }
+      bucket.getValue().forEach(key ->
+          lastPayoutByKey.computeIfPresent(key, (k, last) -> last < windowStart ? null : last));
+      return true;
+    });
+  }
+
+  private void record(String key, long timestamp) {
+    lastPayoutByKey.merge(key, timestamp, Math::max);
+    keysByBucket.computeIfAbsent(timestamp / BUCKET_MILLIS, bucket -> ConcurrentHashMap.newKeySet()).add(key);
+  }
+
+  private static String key(String beneficiaryId, Long amount, String transferType) {
+    return beneficiaryId + '|' + amount + '|' + (transferType == null ? "" : transferType.toUpperCase());
+  }
+
+}
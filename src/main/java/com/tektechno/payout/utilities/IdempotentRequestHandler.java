@@ -0,0 +1,257 @@
+package com.tektechno.payout.utilities;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tektechno.payout.model.IdempotencyRecord;
+import com.tektechno.payout.repository.IdempotencyRecordRepo;
+import com.tektechno.payout.response.BaseResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs a request at most once per {@code Idempotency-Key} and replays its response to retries.
+ * Completed responses live in a bounded in-memory cache backed by the {@code idempotency_record}
+ * table. A duplicate that arrives while the original is still running waits for it: on the same node
+ * through a shared future, on another node by polling the claimed row. Reusing a key with a different
+ * request body is rejected with 422. A 503 answer means nothing was done, so it releases the key and a
+ * retry runs again.
+ */
+@Component
+public class IdempotentRequestHandler {
+
+  public static final String HEADER = "Idempotency-Key";
+
+  private static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+  private static final int MAX_KEY_LENGTH = 128;
+
+  private static final long POLL_INTERVAL_MILLIS = 250;
+
+  private static final Logger logger = LoggerFactory.getLogger(IdempotentRequestHandler.class);
+
+  private record StoredResponse(String requestHash, int status, String body) {
+  }
+
+  @Value("${payout.idempotency.cache-size:10000}")
+  private long cacheSize;
+
+  @Value("${payout.idempotency.ttl-hours:24}")
+  private long ttlHours;
+
+  @Value("${payout.idempotency.wait-timeout-ms:60000}")
+  private long waitTimeoutMillis;
+
+  @Autowired
+  private IdempotencyRecordRepo idempotencyRecordRepo;
+
+  @Autowired
+  private BaseResponse baseResponse;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  private Cache<String, StoredResponse> responses;
+
+  private final Map<String, CompletableFuture<StoredResponse>> inFlight = new ConcurrentHashMap<>();
+
+  @PostConstruct
+  protected void init() {
+    responses = Caffeine.newBuilder()
+        .maximumSize(cacheSize)
+        .expireAfterWrite(Duration.ofHours(ttlHours))
+        .recordStats()
+        .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, responses, "idempotentResponses");
+  }
+
+  /**
+   * Runs the action unless a request with the same key already ran, in which case its response is
+   * replayed. Without a key the action simply runs.
+   *
+   * @param scope   caller identity the key is scoped to
+   * @param key     {@code Idempotency-Key} header value, may be null
+   * @param request request body, used to detect a key reused for a different request
+   * @param action  the request handler
+   * @return @{@link ResponseEntity}
+   */
+  public ResponseEntity<?> execute(String scope, String key, Object request, Supplier<ResponseEntity<?>> action) {
+    if (!StringUtils.isNotNullAndNotEmpty(key)) {
+      return action.get();
+    }
+    if (key.length() > MAX_KEY_LENGTH) {
+      return baseResponse.errorResponse(HttpStatus.BAD_REQUEST,
+          HEADER + " must not be longer than " + MAX_KEY_LENGTH + " characters");
+    }
+
+    String recordKey = scope + ':' + key;
+    String requestHash = hash(request);
+
+    StoredResponse cached = responses.getIfPresent(recordKey);
+    if (cached != null) {
+      return replay(cached, requestHash);
+    }
+
+    CompletableFuture<StoredResponse> promise = new CompletableFuture<>();
+    CompletableFuture<StoredResponse> running = inFlight.putIfAbsent(recordKey, promise);
+    if (running != null) {
+      return awaitOriginal(running, requestHash);
+    }
+
+    try {
+      return claimAndRun(recordKey, requestHash, action, promise);
+    } catch (RuntimeException e) {
+      promise.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlight.remove(recordKey, promise);
+    }
+  }
+
+  private ResponseEntity<?> claimAndRun(String recordKey, String requestHash, Supplier<ResponseEntity<?>> action,
+                                        CompletableFuture<StoredResponse> promise) {
+    long waitDeadline = System.currentTimeMillis() + waitTimeoutMillis;
+    Date expiresAt = new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(ttlHours));
+
+    while (idempotencyRecordRepo.claim(recordKey, requestHash, expiresAt) == 0) {
+      Optional<IdempotencyRecord> existing = idempotencyRecordRepo.findByIdempotencyKey(recordKey);
+      if (existing.isPresent() && existing.get().getCompletedAt() != null) {
+        IdempotencyRecord record = existing.get();
+        StoredResponse stored = new StoredResponse(record.getRequestHash(), record.getResponseStatus(),
+            record.getResponseBody());
+        responses.put(recordKey, stored);
+        promise.complete(stored);
+        return replay(stored, requestHash);
+      }
+      if (existing.isPresent() && !existing.get().getRequestHash().equals(requestHash)) {
+        promise.complete(new StoredResponse(existing.get().getRequestHash(), 0, null));
+        return keyReused();
+      }
+      if (System.currentTimeMillis() >= waitDeadline || !sleep()) {
+        promise.completeExceptionally(new TimeoutException("Original request still running"));
+        return stillProcessing();
+      }
+    }
+
+    ResponseEntity<?> response;
+    try {
+      response = action.get();
+    } catch (RuntimeException e) {
+      idempotencyRecordRepo.release(recordKey);
+      throw e;
+    }
+
+    int status = response.getStatusCode().value();
+    StoredResponse stored = new StoredResponse(requestHash, status, toJson(response.getBody()));
+    if (status == HttpStatus.SERVICE_UNAVAILABLE.value()) {
+      idempotencyRecordRepo.release(recordKey);
+    } else {
+      idempotencyRecordRepo.complete(recordKey, status, stored.body(), new Date());
+      responses.put(recordKey, stored);
+    }
+    promise.complete(stored);
+    return response;
+  }
+
+  private ResponseEntity<?> awaitOriginal(CompletableFuture<StoredResponse> running, String requestHash) {
+    try {
+      return replay(running.get(waitTimeoutMillis, TimeUnit.MILLISECONDS), requestHash);
+    } catch (TimeoutException e) {
+      return stillProcessing();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return stillProcessing();
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof TimeoutException) {
+        return stillProcessing();
+      }
+      logger.warn("Original request for a duplicate {} failed: {}", HEADER, e.getCause().getMessage());
+      return baseResponse.errorResponse(HttpStatus.INTERNAL_SERVER_ERROR,
+          "The original request failed, please retry");
+    }
+  }
+
+  @Scheduled(cron = "${payout.idempotency.purge-cron:0 45 3 * * *}")
+  public void purgeExpired() {
+    int deleted = idempotencyRecordRepo.deleteExpired(new Date());
+    logger.info("Purged {} expired idempotency record(s)", deleted);
+  }
+
+  private ResponseEntity<?> replay(StoredResponse stored, String requestHash) {
+    if (!stored.requestHash().equals(requestHash)) {
+      return keyReused();
+    }
+    if (stored.body() == null) {
+      return stillProcessing();
+    }
+    return ResponseEntity.status(stored.status())
+        .contentType(MediaType.APPLICATION_JSON)
+        .header(REPLAYED_HEADER, "true")
+        .body(stored.body());
+  }
+
+  private ResponseEntity<?> keyReused() {
+    return baseResponse.errorResponse(HttpStatus.UNPROCESSABLE_ENTITY,
+        HEADER + " was already used for a different request");
+  }
+
+  private ResponseEntity<?> stillProcessing() {
+    return baseResponse.errorResponse(HttpStatus.CONFLICT,
+        "A request with this " + HEADER + " is still being processed");
+  }
+
+  private String hash(Object request) {
+    try {
+      byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(request));
+      return HexFormat.of().formatHex(digest);
+    } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+      throw new IllegalStateException("Unable to hash request", e);
+    }
+  }
+
+  private String toJson(Object body) {
+    try {
+      return objectMapper.writeValueAsString(body);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Unable to store response", e);
+    }
+  }
+
+  private static boolean sleep() {
+    try {
+      Thread.sleep(POLL_INTERVAL_MILLIS);
+      return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+}
@@ -2,14 +2,24 @@ package com.tektechno.payout.utilities;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.tektechno.payout.dto.jwt.JwtPayloadDto;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import jakarta.annotation.PostConstruct;
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
@@ -31,6 +41,9 @@ import org.thymeleaf.util.StringUtils;
  * time and encoded secret.
  * The class interacts with `JwtPayloadDto` for payload information and uses an encoded secret
  * to sign tokens and verify their authenticity.
+ * A single thread-safe {@link JwtParser} is built once at startup, and verified payloads are kept in
+ * a bounded cache keyed by the SHA-256 of the token, each entry expiring with the token's own
+ * {@code exp}, so a token is signature-checked and parsed once rather than on every request.
  *
  * @author kousik manik
  */
@@ -49,15 +62,50 @@ public class JwtAuthUtils {
   @Value("${jwt.secret-key}")
   private String plainSecret;
 
+  @Value("${jwt.claims-cache.max-size:10000}")
+  private long claimsCacheMaxSize;
+
   private Key encodedSecret;
 
+  private JwtParser jwtParser;
+
+  private Cache<String, VerifiedToken> verifiedTokenCache;
+
   @Autowired
   private ObjectMapper objectMapper;
 
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  private record VerifiedToken(JwtPayloadDto payload, long expiresAtMillis) {
+  }
+
 
   @PostConstruct
   protected void init() {
     this.encodedSecret = generateEncodedSecret(this.plainSecret);
+    this.jwtParser = Jwts.parser().verifyWith((SecretKey) encodedSecret).build();
+    this.verifiedTokenCache = Caffeine.newBuilder()
+        .maximumSize(claimsCacheMaxSize)
+        .expireAfter(new Expiry<String, VerifiedToken>() {
+          @Override
+          public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, value.expiresAtMillis() - System.currentTimeMillis()));
+          }
+
+          @Override
+          public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+          }
+
+          @Override
+          public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+          }
+        })
+        .recordStats()
+        .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokenCache, "jwtVerifiedClaims");
   }
 
   protected Date getExpirationTime() {
@@ -66,6 +114,15 @@ public class JwtAuthUtils {
     return new Date(expireInMilis + now.getTime());
   }
 
+  /**
+   * Returns how long a refresh token issued now stays valid, in milliseconds.
+   *
+   * @return @{@link Long}
+   */
+  public long getRefreshTokenTtlMillis() {
+    return TimeUnit.HOURS.toMillis(refreshExpireHours);
+  }
+
   protected Date getRefreshExpirationTime() {
     Date now = new Date();
     long expireInMilis = TimeUnit.HOURS.toMillis(refreshExpireHours);
@@ -98,7 +155,7 @@ public class JwtAuthUtils {
     try {
 
       return Jwts.builder()
-          .id(jwtPayloadDto.getMobileNumber())
+          .id(jwtPayloadDto.getTokenId())
           .claim(AUTHORITIES_KEY, authorities)
           .subject(authentication.getName())
           .claims(payload)
@@ -130,7 +187,7 @@ public class JwtAuthUtils {
     try {
 
       return Jwts.builder()
-          .id(jwtPayloadDto.getMobileNumber())
+          .id(jwtPayloadDto.getTokenId())
           .claim(AUTHORITIES_KEY, authorities)
           .subject(authentication.getName())
           .claims(payload)
@@ -154,6 +211,7 @@ public class JwtAuthUtils {
     payload.put("userType", jwtPayloadDto.getUserType());
     payload.put("tokenType", jwtPayloadDto.getTokenType());
     payload.put("memberId", jwtPayloadDto.getMemberId());
+    payload.put("familyId", jwtPayloadDto.getFamilyId());
     return payload;
   }
 
@@ -165,19 +223,26 @@ public class JwtAuthUtils {
    * @return @{@link Boolean}
    */
   public boolean validateToken(String authToken) {
-    Jwts.parser().verifyWith((SecretKey) encodedSecret).build().parseSignedClaims(authToken);
+    decodeToken(authToken);
     return true;
   }
 
   /**
    * Decode JWT token to its original payload data.
+   * The signature is verified only the first time a token is seen; later calls are served from the
+   * verified-claims cache until the token expires.
    *
    * @param authToken @{@link String}
    * @return @JwtPayloadDto
    */
   public JwtPayloadDto decodeToken(String authToken) {
-    Claims claims = Jwts.parser().verifyWith((SecretKey) encodedSecret).build()
-        .parseSignedClaims(authToken).getPayload();
+    String cacheKey = hashToken(authToken);
+    VerifiedToken cached = verifiedTokenCache.getIfPresent(cacheKey);
+    if (cached != null) {
+      return cached.payload();
+    }
+
+    Claims claims = jwtParser.parseSignedClaims(authToken).getPayload();
     JwtPayloadDto dto = new JwtPayloadDto();
     dto.setUserId((String) claims.get("userId"));
     dto.setMobileNumber((String) claims.get("mobileNumber"));
@@ -187,8 +252,23 @@ public class JwtAuthUtils {
     dto.setUserType((String) claims.get("userType"));
     dto.setTokenType((String) claims.get("tokenType"));
     dto.setMemberId((String) claims.get("memberId"));
+    dto.setTokenId(claims.getId());
+    dto.setFamilyId((String) claims.get("familyId"));
+
+    if (claims.getExpiration() != null) {
+      verifiedTokenCache.put(cacheKey, new VerifiedToken(dto, claims.getExpiration().getTime()));
+    }
     return dto;
   }
 
+  private static String hashToken(String authToken) {
+    try {
+      byte[] digest = MessageDigest.getInstance("SHA-256").digest(authToken.getBytes(StandardCharsets.UTF_8));
+      return Base64.getEncoder().encodeToString(digest);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+  }
+
 
 }
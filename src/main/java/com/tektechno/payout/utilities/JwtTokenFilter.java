@@ -1,6 +1,7 @@
 package com.tektechno.payout.utilities;
 
 import com.tektechno.payout.dto.jwt.JwtPayloadDto;
+import com.tektechno.payout.service.TokenRevocationService;
 import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -29,8 +30,11 @@ public class JwtTokenFilter extends OncePerRequestFilter {
 
   private final JwtAuthUtils jwtAuthUtils;
 
-  public JwtTokenFilter(JwtAuthUtils jwtAuthUtils) {
+  private final TokenRevocationService tokenRevocationService;
+
+  public JwtTokenFilter(JwtAuthUtils jwtAuthUtils, TokenRevocationService tokenRevocationService) {
     this.jwtAuthUtils = jwtAuthUtils;
+    this.tokenRevocationService = tokenRevocationService;
   }
 
   @Override
@@ -46,19 +50,22 @@ public class JwtTokenFilter extends OncePerRequestFilter {
         chain.doFilter(request, response);
         return;
       }
-      // Get jwt token and validate
+      // Get jwt token, verify it once and decode its payload
       final String token = header.split(" ")[1].trim();
+      final JwtPayloadDto jwtPayloadDto;
       try {
-        if (!jwtAuthUtils.validateToken(token)) {
-          chain.doFilter(request, response);
-          return;
-        }
+        jwtPayloadDto = jwtAuthUtils.decodeToken(token);
       } catch (Exception ex) {
         chain.doFilter(request, response);
         return;
       }
 
-      JwtPayloadDto jwtPayloadDto = jwtAuthUtils.decodeToken(token);
+      // Access tokens of a revoked token family are rejected; unrevoked ids never reach the database
+      if (tokenRevocationService.isRevoked(jwtPayloadDto.getFamilyId())) {
+        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+        chain.doFilter(request, response);
+        return;
+      }
 
       if (jwtPayloadDto.getTokenType().equals("AT")) {
         request.setAttribute("payload", jwtPayloadDto);
@@ -0,0 +1,170 @@
+package com.tektechno.payout.utilities;
+
+import com.tektechno.payout.exceptions.ServiceBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs BCrypt hashing and verification on a small dedicated thread pool with a bounded queue, so a
+ * burst of logins or registrations can only occupy these threads and never the Tomcat request
+ * threads serving payout APIs. When the queue is full, or a task waits longer than the configured
+ * timeout, the call fails fast with {@link ServiceBusyException}.
+ * Queue wait and hashing time are recorded as separate histograms per operation.
+ */
+@Component
+public class PasswordHashingExecutor {
+
+  private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[abxy]?\\$(\\d{2})\\$");
+
+  private static final Logger logger = LoggerFactory.getLogger(PasswordHashingExecutor.class);
+
+  @Value("${security.password.hashing.pool-size:0}")
+  private int poolSize;
+
+  @Value("${security.password.hashing.queue-capacity:64}")
+  private int queueCapacity;
+
+  @Value("${security.password.hashing.timeout-ms:3000}")
+  private long timeoutMillis;
+
+  @Value("${security.password.bcrypt-strength:10}")
+  private int bcryptStrength;
+
+  @Autowired
+  private PasswordEncoder passwordEncoder;
+
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  private ThreadPoolExecutor executor;
+
+  private Counter rejectedCounter;
+
+  @PostConstruct
+  protected void init() {
+    int threads = poolSize > 0 ? poolSize : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    AtomicInteger threadNumber = new AtomicInteger();
+    executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(queueCapacity),
+        runnable -> {
+          Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        },
+        new ThreadPoolExecutor.AbortPolicy());
+
+    Gauge.builder("password.hashing.queue.depth", executor, e -> e.getQueue().size()).register(meterRegistry);
+    Gauge.builder("password.hashing.active", executor, ThreadPoolExecutor::getActiveCount).register(meterRegistry);
+    rejectedCounter = Counter.builder("password.hashing.rejected").register(meterRegistry);
+    logger.info("Password hashing pool started with {} thread(s), queue capacity {}", threads, queueCapacity);
+  }
+
+  @PreDestroy
+  protected void shutdown() {
+    executor.shutdown();
+  }
+
+  /**
+   * Hashes a raw password with the configured BCrypt cost.
+   *
+   * @param rawPassword @{@link String}
+   * @return @{@link String}
+   * @throws ServiceBusyException when the pool is saturated
+   */
+  public String encode(String rawPassword) throws ServiceBusyException {
+    return execute("encode", () -> passwordEncoder.encode(rawPassword));
+  }
+
+  /**
+   * Verifies a raw password against a stored BCrypt hash.
+   *
+   * @param rawPassword     @{@link String}
+   * @param encodedPassword @{@link String}
+   * @return @{@link Boolean}
+   * @throws ServiceBusyException when the pool is saturated
+   */
+  public boolean matches(String rawPassword, String encodedPassword) throws ServiceBusyException {
+    return execute("matches", () -> passwordEncoder.matches(rawPassword, encodedPassword));
+  }
+
+  /**
+   * Returns true when the stored hash was produced with a BCrypt cost other than the configured one.
+   *
+   * @param encodedPassword @{@link String}
+   * @return @{@link Boolean}
+   */
+  public boolean needsRehash(String encodedPassword) {
+    if (encodedPassword == null) {
+      return false;
+    }
+    Matcher matcher = BCRYPT_COST.matcher(encodedPassword);
+    return matcher.find() && Integer.parseInt(matcher.group(1)) != bcryptStrength;
+  }
+
+  private <T> T execute(String operation, Callable<T> task) throws ServiceBusyException {
+    long submittedAt = System.nanoTime();
+    Future<T> future;
+    try {
+      future = executor.submit(() -> {
+        long startedAt = System.nanoTime();
+        timer("password.hashing.queue.wait", operation).record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+        try {
+          return task.call();
+        } finally {
+          timer("password.hashing.duration", operation).record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      rejectedCounter.increment();
+      logger.warn("Password hashing pool saturated, rejecting {} request", operation);
+      throw new ServiceBusyException("Server is busy, please try again shortly");
+    }
+
+    try {
+      return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      future.cancel(true);
+      rejectedCounter.increment();
+      logger.warn("Password hashing {} timed out after {} ms", operation, timeoutMillis);
+      throw new ServiceBusyException("Server is busy, please try again shortly");
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      future.cancel(true);
+      throw new ServiceBusyException("Request interrupted, please try again");
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+
+  private Timer timer(String name, String operation) {
+    return Timer.builder(name)
+        .tag("operation", operation)
+        .publishPercentileHistogram()
+        .register(meterRegistry);
+  }
+
+}
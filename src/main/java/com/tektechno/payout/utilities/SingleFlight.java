@@ -0,0 +1,56 @@
+package com.tektechno.payout.utilities;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent calls for the same key into one underlying call.
+ * The first caller for a key (the leader) starts the call; callers arriving while it is in flight
+ * join it and receive the same result or failure. The key is released before the result is
+ * published, so a caller arriving after completion always starts a fresh call and never sees a
+ * stale result.
+ *
+ * @param <K> key type
+ * @param <V> result type
+ */
+public class SingleFlight<K, V> {
+
+  /**
+   * Result of {@link #execute(Object, Supplier)}: the caller's own future and whether it joined a
+   * call already in flight.
+   */
+  public record Call<V>(CompletableFuture<V> future, boolean joined) {
+  }
+
+  private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+  public Call<V> execute(K key, Supplier<CompletableFuture<V>> call) {
+    CompletableFuture<V> promise = new CompletableFuture<>();
+    CompletableFuture<V> existing = inFlight.putIfAbsent(key, promise);
+    if (existing != null) {
+      return new Call<>(existing.copy(), true);
+    }
+
+    try {
+      call.get().whenComplete((value, error) -> {
+        inFlight.remove(key, promise);
+        if (error != null) {
+          promise.completeExceptionally(error);
+        } else {
+          promise.complete(value);
+        }
+      });
+    } catch (RuntimeException e) {
+      inFlight.remove(key, promise);
+      promise.completeExceptionally(e);
+    }
+    return new Call<>(promise.copy(), false);
+  }
+
+  public int inFlightCount() {
+    return inFlight.size();
+  }
+
+}
@@ -0,0 +1,176 @@
+package com.tektechno.payout.utilities;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tektechno.payout.dto.response.UserResponseDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.function.Function;
+import javax.sql.DataSource;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded TTL cache of {@link UserResponseDto} keyed by user id.
+ * Invalidations are applied locally and broadcast with Postgres {@code NOTIFY}, and every node runs
+ * a background thread that {@code LISTEN}s on the same channel over a dedicated connection, so an
+ * update on one node evicts the profile everywhere. A notification issued inside a transaction is
+ * only delivered once that transaction commits. Whenever the listener connection is lost the whole
+ * cache is cleared, since notifications sent in the meantime are gone.
+ */
+@Component
+public class UserProfileCache {
+
+  private static final String CHANNEL = "user_profile_invalidation";
+
+  private static final long RECONNECT_DELAY_MILLIS = 5000;
+
+  private static final Logger logger = LoggerFactory.getLogger(UserProfileCache.class);
+
+  @Value("${user.profile-cache.max-size:10000}")
+  private long maxSize;
+
+  @Value("${user.profile-cache.ttl-seconds:300}")
+  private long ttlSeconds;
+
+  @Value("${user.profile-cache.cross-node-invalidation:true}")
+  private boolean crossNodeInvalidation;
+
+  @Autowired
+  private DataSource dataSource;
+
+  @Autowired
+  private DataSourceProperties dataSourceProperties;
+
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  private Cache<Long, UserResponseDto> cache;
+
+  private JdbcTemplate jdbcTemplate;
+
+  private volatile boolean running;
+
+  private Thread listenerThread;
+
+  @PostConstruct
+  protected void init() {
+    cache = Caffeine.newBuilder()
+        .maximumSize(maxSize)
+        .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+        .recordStats()
+        .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, "userProfile");
+    jdbcTemplate = new JdbcTemplate(dataSource);
+  }
+
+  /**
+   * Returns the cached profile, loading it on a miss. Missing users are not cached.
+   *
+   * @param userId @{@link Long}
+   * @param loader loads the profile, or returns null when the user does not exist
+   * @return @{@link UserResponseDto} or null
+   */
+  public UserResponseDto get(Long userId, Function<Long, UserResponseDto> loader) {
+    return cache.get(userId, loader);
+  }
+
+  /**
+   * Evicts a profile on this node and notifies every other node to do the same.
+   *
+   * @param userId @{@link Long}
+   */
+  public void invalidate(Long userId) {
+    if (userId == null) {
+      return;
+    }
+    cache.invalidate(userId);
+    if (!crossNodeInvalidation) {
+      return;
+    }
+    try {
+      jdbcTemplate.queryForObject("SELECT pg_notify(?, ?)", Object.class, CHANNEL, String.valueOf(userId));
+    } catch (Exception e) {
+      logger.error("Failed to publish user profile invalidation for userId: {}. Error: {}", userId, e.getMessage());
+    }
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void startListener() {
+    if (!crossNodeInvalidation || running) {
+      return;
+    }
+    running = true;
+    listenerThread = new Thread(this::listen, "user-profile-invalidation-listener");
+    listenerThread.setDaemon(true);
+    listenerThread.start();
+  }
+
+  @PreDestroy
+  protected void stopListener() {
+    running = false;
+    if (listenerThread != null) {
+      listenerThread.interrupt();
+    }
+  }
+
+  private void listen() {
+    while (running) {
+      try (Connection connection = DriverManager.getConnection(dataSourceProperties.determineUrl(),
+          dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword())) {
+        try (Statement statement = connection.createStatement()) {
+          statement.execute("LISTEN " + CHANNEL);
+        }
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        logger.info("Listening for user profile invalidations on channel {}", CHANNEL);
+
+        while (running) {
+          PGNotification[] notifications = pgConnection.getNotifications(1000);
+          if (notifications == null) {
+            continue;
+          }
+          for (PGNotification notification : notifications) {
+            applyNotification(notification.getParameter());
+          }
+        }
+      } catch (SQLException e) {
+        if (!running) {
+          return;
+        }
+        logger.error("User profile invalidation listener disconnected, clearing cache. Error: {}", e.getMessage());
+        cache.invalidateAll();
+        try {
+          Thread.sleep(RECONNECT_DELAY_MILLIS);
+        } catch (InterruptedException ie) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+      }
+    }
+  }
+
+  private void applyNotification(String payload) {
+    try {
+      cache.invalidate(Long.valueOf(payload));
+    } catch (NumberFormatException e) {
+      logger.warn("Ignoring malformed user profile invalidation payload: {}", payload);
+    }
+  }
+
+}
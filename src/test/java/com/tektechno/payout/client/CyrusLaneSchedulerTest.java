@@ -0,0 +1,142 @@
+package com.tektechno.payout.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class CyrusLaneSchedulerTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private final MockEnvironment environment = new MockEnvironment();
+
+  private CyrusLaneScheduler scheduler(int maxConnections, long maxWaitMillis, int maxQueueSize) {
+    CyrusLaneScheduler scheduler = new CyrusLaneScheduler();
+    ReflectionTestUtils.setField(scheduler, "maxConnections", maxConnections);
+    ReflectionTestUtils.setField(scheduler, "maxWaitMillis", maxWaitMillis);
+    ReflectionTestUtils.setField(scheduler, "maxQueueSize", maxQueueSize);
+    ReflectionTestUtils.setField(scheduler, "environment", environment);
+    ReflectionTestUtils.setField(scheduler, "meterRegistry", meterRegistry);
+    scheduler.init();
+    return scheduler;
+  }
+
+  @Test
+  void freedSlotsGoToBackloggedLanesInWeightedRoundRobin() {
+    CyrusLaneScheduler scheduler = scheduler(1, 60_000, 100);
+    assertTrue(scheduler.acquire(CyrusLane.INTERACTIVE));
+
+    List<CyrusLane> grants = new ArrayList<>();
+    for (int i = 0; i < 30; i++) {
+      for (CyrusLane lane : CyrusLane.values()) {
+        scheduler.acquireAsync(lane).thenAccept(granted -> grants.add(lane));
+      }
+    }
+
+    CyrusLane holder = CyrusLane.INTERACTIVE;
+    for (int cycle = 1; cycle <= 3; cycle++) {
+      for (int i = 0; i < 14; i++) {
+        scheduler.release(holder);
+        holder = grants.get(grants.size() - 1);
+      }
+      Map<CyrusLane, Integer> counts = new EnumMap<>(CyrusLane.class);
+      grants.forEach(lane -> counts.merge(lane, 1, Integer::sum));
+      assertEquals(8 * cycle, (int) counts.get(CyrusLane.INTERACTIVE));
+      assertEquals(3 * cycle, (int) counts.get(CyrusLane.BULK));
+      assertEquals(2 * cycle, (int) counts.get(CyrusLane.RECONCILIATION));
+      assertEquals(cycle, (int) counts.get(CyrusLane.REFERENCE));
+    }
+  }
+
+  @Test
+  void laneNeverExceedsItsQuota() {
+    environment.setProperty("cyrus.lanes.reference.max-concurrency", "2");
+    CyrusLaneScheduler scheduler = scheduler(10, 60_000, 100);
+
+    assertTrue(scheduler.acquireAsync(CyrusLane.REFERENCE).join());
+    assertTrue(scheduler.acquireAsync(CyrusLane.REFERENCE).join());
+    CompletableFuture<Boolean> third = scheduler.acquireAsync(CyrusLane.REFERENCE);
+    assertFalse(third.isDone());
+    assertTrue(scheduler.acquireAsync(CyrusLane.BULK).join());
+    assertEquals(2, scheduler.snapshot().get("reference").get("inFlight"));
+    assertEquals(1, scheduler.snapshot().get("reference").get("queued"));
+
+    scheduler.release(CyrusLane.REFERENCE);
+    assertTrue(third.join());
+    assertEquals(2, scheduler.snapshot().get("reference").get("inFlight"));
+    assertEquals(0, scheduler.snapshot().get("reference").get("queued"));
+  }
+
+  @Test
+  void fullQueueRejectsRightAway() {
+    CyrusLaneScheduler scheduler = scheduler(1, 60_000, 1);
+    assertTrue(scheduler.acquire(CyrusLane.BULK));
+    CompletableFuture<Boolean> queued = scheduler.acquireAsync(CyrusLane.BULK);
+
+    assertFalse(scheduler.acquireAsync(CyrusLane.BULK).join());
+    assertFalse(scheduler.acquire(CyrusLane.BULK));
+    assertEquals(2.0, meterRegistry.get("cyrus.lane.rejected").tag("lane", "bulk").counter().count());
+    assertFalse(queued.isDone());
+
+    scheduler.release(CyrusLane.BULK);
+    assertTrue(queued.join());
+  }
+
+  @Test
+  void waitersGiveUpAfterMaxWait() throws Exception {
+    CyrusLaneScheduler scheduler = scheduler(1, 50, 10);
+    assertTrue(scheduler.acquire(CyrusLane.BULK));
+
+    assertFalse(scheduler.acquire(CyrusLane.INTERACTIVE));
+    assertFalse(scheduler.acquireAsync(CyrusLane.RECONCILIATION).get(5, TimeUnit.SECONDS));
+    assertEquals(0, scheduler.snapshot().get("interactive").get("queued"));
+    assertEquals(0, scheduler.snapshot().get("reconciliation").get("queued"));
+
+    scheduler.release(CyrusLane.BULK);
+    assertTrue(scheduler.acquireAsync(CyrusLane.INTERACTIVE).join());
+  }
+
+  @Test
+  void blockingWaiterIsWokenByRelease() throws Exception {
+    CyrusLaneScheduler scheduler = scheduler(1, 60_000, 10);
+    assertTrue(scheduler.acquire(CyrusLane.BULK));
+
+    CompletableFuture<Boolean> waiter = CompletableFuture.supplyAsync(() -> scheduler.acquire(CyrusLane.INTERACTIVE));
+    while ((int) scheduler.snapshot().get("interactive").get("queued") == 0) {
+      Thread.sleep(1);
+    }
+    scheduler.release(CyrusLane.BULK);
+
+    assertTrue(waiter.get(5, TimeUnit.SECONDS));
+    assertEquals(1, scheduler.snapshot().get("interactive").get("inFlight"));
+  }
+
+  @Test
+  void callsFailingOnGrantDoNotRecurse() {
+    CyrusLaneScheduler scheduler = scheduler(1, 60_000, 100_000);
+    assertTrue(scheduler.acquire(CyrusLane.BULK));
+
+    List<CompletableFuture<Void>> calls = new ArrayList<>();
+    for (int i = 0; i < 50_000; i++) {
+      calls.add(scheduler.acquireAsync(CyrusLane.BULK)
+          .thenAccept(granted -> scheduler.release(CyrusLane.BULK)));
+    }
+    scheduler.release(CyrusLane.BULK);
+
+    calls.forEach(CompletableFuture::join);
+    assertEquals(0, scheduler.snapshot().get("bulk").get("inFlight"));
+    assertEquals(0, scheduler.snapshot().get("bulk").get("queued"));
+  }
+
+}
@@ -0,0 +1,304 @@
+package com.tektechno.payout.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tektechno.payout.exceptions.CyrusUnavailableException;
+import com.tektechno.payout.utilities.AdaptiveConcurrencyLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+class SendMoneyRetryExecutorTest {
+
+  private static final String ORDER_ID = "ORD-1";
+
+  private static final String ACCEPTED = "{\"statuscode\":\"TXN\",\"status\":\"Transaction Successful\","
+      + "\"data\":{\"orderId\":\"ORD-1\",\"cyrusOrderId\":\"CY-1\"}}";
+
+  private static final String NOT_FOUND = "{\"statuscode\":\"ERR\",\"status\":\"No record found\"}";
+
+  private final AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 10, 1, 20, 1.5, 0.2);
+
+  private final StubCyrusClient cyrusClient = new StubCyrusClient(limiter);
+
+  private SendMoneyRetryExecutor executor;
+
+  @BeforeEach
+  void setUp() {
+    executor = new SendMoneyRetryExecutor();
+    ReflectionTestUtils.setField(executor, "maxAttempts", 3);
+    ReflectionTestUtils.setField(executor, "baseBackoffMillis", 1L);
+    ReflectionTestUtils.setField(executor, "maxBackoffMillis", 2L);
+    ReflectionTestUtils.setField(executor, "minAttemptBudgetMillis", 0L);
+    ReflectionTestUtils.setField(executor, "cyrusClient", cyrusClient);
+    ReflectionTestUtils.setField(executor, "objectMapper", new ObjectMapper());
+    ReflectionTestUtils.setField(executor, "meterRegistry", new SimpleMeterRegistry());
+  }
+
+  @Test
+  void connectionFailuresAndRejectedAdmissionsAreNotSent() {
+    assertEquals(SendMoneyRetryExecutor.Failure.NOT_SENT,
+        SendMoneyRetryExecutor.classify(new CyrusUnavailableException("breaker open", null)));
+    assertEquals(SendMoneyRetryExecutor.Failure.NOT_SENT,
+        SendMoneyRetryExecutor.classify(new ResourceAccessException("refused", new ConnectException())));
+    assertEquals(SendMoneyRetryExecutor.Failure.NOT_SENT,
+        SendMoneyRetryExecutor.classify(new CompletionException(new UnknownHostException("cyrus"))));
+  }
+
+  @Test
+  void clientErrorsAreRejected() {
+    assertEquals(SendMoneyRetryExecutor.Failure.REJECTED,
+        SendMoneyRetryExecutor.classify(new HttpClientErrorException(HttpStatus.BAD_REQUEST)));
+    assertEquals(SendMoneyRetryExecutor.Failure.REJECTED,
+        SendMoneyRetryExecutor.classify(new CompletionException(
+            WebClientResponseException.create(422, "Unprocessable Entity", HttpHeaders.EMPTY,
+                new byte[0], StandardCharsets.UTF_8))));
+  }
+
+  @Test
+  void timeoutsAndServerErrorsAreAmbiguous() {
+    assertEquals(SendMoneyRetryExecutor.Failure.AMBIGUOUS,
+        SendMoneyRetryExecutor.classify(new ResourceAccessException("timed out", new SocketTimeoutException())));
+    assertEquals(SendMoneyRetryExecutor.Failure.AMBIGUOUS,
+        SendMoneyRetryExecutor.classify(new HttpServerErrorException(HttpStatus.BAD_GATEWAY)));
+    assertEquals(SendMoneyRetryExecutor.Failure.AMBIGUOUS,
+        SendMoneyRetryExecutor.classify(WebClientResponseException.create(503, "Unavailable", HttpHeaders.EMPTY,
+            new byte[0], StandardCharsets.UTF_8)));
+    assertEquals(SendMoneyRetryExecutor.Failure.AMBIGUOUS,
+        SendMoneyRetryExecutor.classify(new IllegalStateException("connection reset")));
+  }
+
+  @Test
+  void firstAttemptAccepted() {
+    cyrusClient.sendMoney.add(CompletableFuture.completedFuture(ACCEPTED));
+
+    SendMoneyRetryExecutor.Result result = send(CyrusCallGroup.SEND_MONEY);
+
+    assertEquals(SendMoneyRetryExecutor.Outcome.ACCEPTED, result.outcome());
+    assertEquals("CY-1", result.response().getData().getCyrusOrderId());
+    assertNull(result.error());
+    assertEquals(1, result.attempts());
+    assertEquals(0, cyrusClient.statusGroups.size());
+    assertEquals(10, limiter.getLimit());
+  }
+
+  @Test
+  void notSentFailureIsResentWithoutCheckingStatus() {
+    cyrusClient.sendMoney.add(failed(new CyrusUnavailableException("bulkhead full", null)));
+    cyrusClient.sendMoney.add(CompletableFuture.completedFuture(ACCEPTED));
+
+    SendMoneyRetryExecutor.Result result = send(CyrusCallGroup.SEND_MONEY);
+
+    assertEquals(SendMoneyRetryExecutor.Outcome.ACCEPTED, result.outcome());
+    assertEquals(2, result.attempts());
+    assertEquals(0, cyrusClient.statusGroups.size());
+    assertEquals(9, limiter.getLimit());
+  }
+
+  @Test
+  void resendsHoldTheLimiterPermit() {
+    cyrusClient.sendMoney.add(failed(new CyrusUnavailableException("bulkhead full", null)));
+    cyrusClient.sendMoney.add(failed(new ResourceAccessException("refused", new ConnectException())));
+    cyrusClient.sendMoney.add(CompletableFuture.completedFuture(ACCEPTED));
+
+    SendMoneyRetryExecutor.Result result = send(CyrusCallGroup.SEND_MONEY);
+
+    assertEquals(SendMoneyRetryExecutor.Outcome.ACCEPTED, result.outcome());
+    assertEquals(List.of(1, 1, 1), cyrusClient.inFlightAtSend);
+    assertEquals(0, limiter.getInFlight());
+    assertEquals(9, limiter.getLimit());
+  }
+
+  @Test
+  void rejectionFailsWithoutRetrying() {
+    HttpClientErrorException rejection = new HttpClientErrorException(HttpStatus.BAD_REQUEST);
+    cyrusClient.sendMoney.add(failed(rejection));
+
+    SendMoneyRetryExecutor.Result result = send(CyrusCallGroup.SEND_MONEY);
+
+    assertEquals(SendMoneyRetryExecutor.Outcome.FAILED, result.outcome());
+    assertSame(rejection, result.error());
+    assertEquals(1, result.attempts());
+    assertEquals(0, cyrusClient.statusGroups.size());
+  }
+
+  @Test
+  void ambiguousFailureOfAnOrderCyrusKnowsIsAccepted() {
+    cyrusClient.sendMoney.add(failed(new ResourceAccessException("timed out", new SocketTimeoutException())));
+    cyrusClient.checkStatus.add(CompletableFuture.completedFuture(ACCEPTED));
+
+    SendMoneyRetryExecutor.Result result = send(CyrusCallGroup.SEND_MONEY);
+
+    assertEquals(SendMoneyRetryExecutor.Outcome.ACCEPTED, result.outcome());
+    assertEquals(ORDER_ID, result.response().getData().getOrderId());
+    assertEquals(1, result.attempts());
+    assertEquals(List.of(CyrusCallGroup.STATUS), cyrusClient.statusGroups);
+  }
+
+  @Test
+  void ambiguousFailureOfAnOrderCyrusDoesNotKnowIsResent() {
+    cyrusClient.sendMoney.add(failed(new HttpServerErrorException(HttpStatus.BAD_GATEWAY)));
+    cyrusClient.checkStatus.add(CompletableFuture.completedFuture(NOT_FOUND));
+    cyrusClient.sendMoney.add(CompletableFuture.completedFuture(ACCEPTED));
+
+    SendMoneyRetryExecutor.Result result = send(CyrusCallGroup.SEND_MONEY);
+
+    assertEquals(SendMoneyRetryExecutor.Outcome.ACCEPTED, result.outcome());
+    assertEquals(2, result.attempts());
+  }
+
+  @Test
+  void rejectionAfterAnAmbiguousAttemptIsUnknown() {
+    cyrusClient.sendMoney.add(failed(new ResourceAccessException("timed out", new SocketTimeoutException())));
+    cyrusClient.checkStatus.add(CompletableFuture.completedFuture(NOT_FOUND));
+    cyrusClient.sendMoney.add(failed(new HttpClientErrorException(HttpStatus.CONFLICT)));
+
+    SendMoneyRetryExecutor.Result result = send(CyrusCallGroup.SEND_MONEY);
+
+    assertEquals(SendMoneyRetryExecutor.Outcome.UNKNOWN, result.outcome());
+    assertEquals(2, result.attempts());
+  }
+
+  @Test
+  void unreadableStatusAfterAnAmbiguousFailureIsUnknown() {
+    cyrusClient.sendMoney.add(failed(new HttpServerErrorException(HttpStatus.INTERNAL_SERVER_ERROR)));
+    cyrusClient.checkStatus.add(failed(new CyrusUnavailableException("breaker open", null)));
+
+    SendMoneyRetryExecutor.Result result = send(CyrusCallGroup.SEND_MONEY);
+
+    assertEquals(SendMoneyRetryExecutor.Outcome.UNKNOWN, result.outcome());
+    assertEquals(1, result.attempts());
+    assertEquals(0, cyrusClient.sendMoney.size());
+  }
+
+  @Test
+  void exhaustedAttemptsThatWereNeverSentFail() {
+    for (int i = 0; i < 3; i++) {
+      cyrusClient.sendMoney.add(failed(new ResourceAccessException("refused", new ConnectException())));
+    }
+
+    SendMoneyRetryExecutor.Result result = send(CyrusCallGroup.SEND_MONEY);
+
+    assertEquals(SendMoneyRetryExecutor.Outcome.FAILED, result.outcome());
+    assertEquals(3, result.attempts());
+  }
+
+  @Test
+  void exhaustedAttemptsAfterAnAmbiguousOneAreUnknown() {
+    cyrusClient.sendMoney.add(failed(new HttpServerErrorException(HttpStatus.GATEWAY_TIMEOUT)));
+    cyrusClient.checkStatus.add(CompletableFuture.completedFuture(NOT_FOUND));
+    cyrusClient.sendMoney.add(failed(new CyrusUnavailableException("breaker open", null)));
+    cyrusClient.sendMoney.add(failed(new CyrusUnavailableException("breaker open", null)));
+
+    SendMoneyRetryExecutor.Result result = send(CyrusCallGroup.SEND_MONEY);
+
+    assertEquals(SendMoneyRetryExecutor.Outcome.UNKNOWN, result.outcome());
+    assertEquals(3, result.attempts());
+  }
+
+  @Test
+  void noRetryWhenTheNextAttemptDoesNotFitTheBudget() {
+    ReflectionTestUtils.setField(executor, "minAttemptBudgetMillis", 5000L);
+    cyrusClient.sendMoney.add(failed(new CyrusUnavailableException("bulkhead full", null)));
+
+    SendMoneyRetryExecutor.Result result = executor.send(CyrusCallGroup.SEND_MONEY, ORDER_ID,
+        Map.of("orderId", ORDER_ID), 1000, permit());
+
+    assertEquals(SendMoneyRetryExecutor.Outcome.FAILED, result.outcome());
+    assertEquals(1, result.attempts());
+  }
+
+  @Test
+  void bulkPayoutsCheckStatusInTheBulkGroup() {
+    cyrusClient.sendMoney.add(failed(new ResourceAccessException("timed out", new SocketTimeoutException())));
+    cyrusClient.checkStatus.add(CompletableFuture.completedFuture(ACCEPTED));
+
+    send(CyrusCallGroup.BULK);
+
+    assertEquals(List.of(CyrusCallGroup.BULK), cyrusClient.statusGroups);
+  }
+
+  private SendMoneyRetryExecutor.Result send(CyrusCallGroup group) {
+    return executor.send(group, ORDER_ID, Map.of("orderId", ORDER_ID), 60000, permit());
+  }
+
+  private AdaptiveConcurrencyLimiter.Permit permit() {
+    try {
+      return limiter.acquire();
+    } catch (InterruptedException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static CompletableFuture<String> failed(RuntimeException error) {
+    return CompletableFuture.failedFuture(error);
+  }
+
+  /**
+   * Answers {@code sendmoney} and {@code checkstatus} calls from queued results, in order.
+   */
+  private static final class StubCyrusClient implements CyrusClient {
+
+    private final Deque<CompletableFuture<String>> sendMoney = new ArrayDeque<>();
+
+    private final Deque<CompletableFuture<String>> checkStatus = new ArrayDeque<>();
+
+    private final List<CyrusCallGroup> statusGroups = new ArrayList<>();
+
+    private final List<Integer> inFlightAtSend = new ArrayList<>();
+
+    private final AdaptiveConcurrencyLimiter limiter;
+
+    private StubCyrusClient(AdaptiveConcurrencyLimiter limiter) {
+      this.limiter = limiter;
+    }
+
+    @Override
+    public CompletableFuture<String> post(CyrusCallGroup group, String path, String methodName,
+                                          Map<String, String> params) {
+      assertEquals("sendmoney", methodName);
+      assertEquals(ORDER_ID, params.get("orderId"));
+      inFlightAtSend.add(limiter.getInFlight());
+      return next(sendMoney, methodName);
+    }
+
+    @Override
+    public CompletableFuture<String> read(CyrusCallGroup group, String path, String methodName,
+                                          Map<String, String> params) {
+      assertEquals("checkstatus", methodName);
+      assertEquals(ORDER_ID, params.get("orderId"));
+      statusGroups.add(group);
+      return next(checkStatus, methodName);
+    }
+
+    private static CompletableFuture<String> next(Deque<CompletableFuture<String>> results, String methodName) {
+      CompletableFuture<String> result = results.pollFirst();
+      if (result == null) {
+        throw new AssertionError("Unexpected " + methodName + " call");
+      }
+      return result;
+    }
+  }
+
+}
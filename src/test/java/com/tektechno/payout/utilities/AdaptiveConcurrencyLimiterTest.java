@@ -0,0 +1,194 @@
+package com.tektechno.payout.utilities;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Drives {@link AdaptiveConcurrencyLimiter} against a stub downstream whose latency is flat up to its
+ * capacity and rises linearly with the queue beyond it, the shape of a saturated server.
+ */
+class AdaptiveConcurrencyLimiterTest {
+
+  private static final int CAPACITY = 8;
+
+  private static final int CALLERS = 48;
+
+  @Test
+  void limitGrowsFromInitialAndSettlesNearDownstreamCapacity() throws InterruptedException {
+    AdaptiveConcurrencyLimiter limiter = newLimiter(2);
+    StubDownstream downstream = new StubDownstream(CAPACITY, 2000);
+
+    List<Integer> limits = drive(limiter, downstream, 1500);
+
+    int settled = average(limits.subList(limits.size() / 2, limits.size()));
+    assertTrue(settled > 2, "limit should grow from its initial value, settled at " + settled);
+    assertTrue(settled >= CAPACITY / 2 && settled <= CAPACITY * 3,
+        "limit should settle near the downstream capacity of " + CAPACITY + ", settled at " + settled);
+    assertTrue(downstream.maxConcurrent() <= limiter.getMaxLimit());
+  }
+
+  @Test
+  void limitBacksOffWhenLatencyRisesAndRecoversWhenItFalls() throws InterruptedException {
+    AdaptiveConcurrencyLimiter limiter = newLimiter(2);
+    StubDownstream downstream = new StubDownstream(CAPACITY, 2000);
+    List<Integer> healthy = drive(limiter, downstream, 1000);
+    int healthyLimit = average(healthy.subList(healthy.size() / 2, healthy.size()));
+
+    downstream.setBaseLatencyMicros(10_000);
+    List<Integer> degraded = drive(limiter, downstream, 1000);
+    int degradedLimit = min(degraded);
+    assertTrue(degradedLimit < healthyLimit,
+        "limit should back off when latency rises, healthy " + healthyLimit + " degraded " + degradedLimit);
+
+    downstream.setBaseLatencyMicros(2000);
+    List<Integer> recovered = drive(limiter, downstream, 1500);
+    int recoveredLimit = average(recovered.subList(recovered.size() / 2, recovered.size()));
+    assertTrue(recoveredLimit > degradedLimit,
+        "limit should grow again once latency falls, degraded " + degradedLimit + " recovered " + recoveredLimit);
+  }
+
+  @Test
+  void droppedCallsCutTheLimitDownToTheMinimum() throws InterruptedException {
+    AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 20, 2, 20, 1.5, 0.2);
+
+    limiter.acquire().dropped();
+    assertEquals(18, limiter.getLimit());
+
+    for (int i = 0; i < 50; i++) {
+      limiter.acquire().dropped();
+    }
+    assertEquals(2, limiter.getLimit());
+    assertEquals(0, limiter.getInFlight());
+  }
+
+  @Test
+  void tryAcquireTimesOutAtTheLimitAndOutcomeIsAppliedOnce() throws InterruptedException {
+    AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 2, 1, 10, 1.5, 0.2);
+    AdaptiveConcurrencyLimiter.Permit first = limiter.acquire();
+    AdaptiveConcurrencyLimiter.Permit second = limiter.acquire();
+
+    assertNull(limiter.tryAcquire(10, TimeUnit.MILLISECONDS));
+
+    first.dropped();
+    first.dropped();
+    first.ignore();
+    assertEquals(1, limiter.getInFlight());
+    assertEquals(1, limiter.getLimit());
+    second.ignore();
+    assertEquals(0, limiter.getInFlight());
+  }
+
+  @Test
+  void idleSamplesDoNotInflateTheLimit() throws InterruptedException {
+    AdaptiveConcurrencyLimiter limiter = newLimiter(10);
+    StubDownstream downstream = new StubDownstream(CAPACITY, 1000);
+
+    for (int i = 0; i < 200; i++) {
+      AdaptiveConcurrencyLimiter.Permit permit = limiter.acquire();
+      downstream.call();
+      permit.success();
+    }
+    assertEquals(10, limiter.getLimit());
+  }
+
+  private static AdaptiveConcurrencyLimiter newLimiter(int initialLimit) {
+    return new AdaptiveConcurrencyLimiter("test", initialLimit, 1, 64, 1.5, 0.2);
+  }
+
+  /**
+   * Runs {@link #CALLERS} callers against the downstream for the given time and returns the limit
+   * sampled after every call.
+   */
+  private static List<Integer> drive(AdaptiveConcurrencyLimiter limiter, StubDownstream downstream,
+                                     long durationMillis) throws InterruptedException {
+    List<Integer> limits = new ArrayList<>();
+    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(durationMillis);
+    List<Thread> callers = new ArrayList<>();
+    for (int i = 0; i < CALLERS; i++) {
+      Thread caller = new Thread(() -> {
+        try {
+          while (System.nanoTime() < deadline) {
+            AdaptiveConcurrencyLimiter.Permit permit = limiter.acquire();
+            try {
+              downstream.call();
+              permit.success();
+            } finally {
+              permit.ignore();
+            }
+            synchronized (limits) {
+              limits.add(limiter.getLimit());
+            }
+          }
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      });
+      caller.start();
+      callers.add(caller);
+    }
+    for (Thread caller : callers) {
+      caller.join();
+    }
+    assertEquals(0, limiter.getInFlight());
+    return limits;
+  }
+
+  private static int average(List<Integer> values) {
+    return (int) Math.round(values.stream().mapToInt(Integer::intValue).average().orElse(0));
+  }
+
+  private static int min(List<Integer> values) {
+    return values.stream().mapToInt(Integer::intValue).min().orElse(0);
+  }
+
+  /**
+   * Latency is the base latency up to {@code capacity} concurrent calls and grows in proportion to the
+   * number of calls beyond that.
+   */
+  private static final class StubDownstream {
+
+    private final int capacity;
+
+    private final AtomicInteger concurrent = new AtomicInteger();
+
+    private final AtomicInteger maxConcurrent = new AtomicInteger();
+
+    private volatile long baseLatencyMicros;
+
+    private StubDownstream(int capacity, long baseLatencyMicros) {
+      this.capacity = capacity;
+      this.baseLatencyMicros = baseLatencyMicros;
+    }
+
+    private void call() {
+      int current = concurrent.incrementAndGet();
+      maxConcurrent.accumulateAndGet(current, Math::max);
+      try {
+        long latencyNanos = TimeUnit.MICROSECONDS.toNanos(baseLatencyMicros) * Math.max(capacity, current) / capacity;
+        long end = System.nanoTime() + latencyNanos;
+        while (System.nanoTime() < end) {
+          LockSupport.parkNanos(end - System.nanoTime());
+        }
+      } finally {
+        concurrent.decrementAndGet();
+      }
+    }
+
+    private void setBaseLatencyMicros(long baseLatencyMicros) {
+      this.baseLatencyMicros = baseLatencyMicros;
+    }
+
+    private int maxConcurrent() {
+      return maxConcurrent.get();
+    }
+  }
+
+}
@@ -0,0 +1,201 @@
+package com.tektechno.payout.utilities;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class BulkPayoutSchedulerTest {
+
+  private final MockEnvironment environment = new MockEnvironment();
+
+  private final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+  private BulkPayoutScheduler scheduler;
+
+  private BulkPayoutScheduler scheduler(int limit, ExecutorService bulkPayoutExecutor) {
+    scheduler = new BulkPayoutScheduler();
+    ReflectionTestUtils.setField(scheduler, "defaultWeight", 1);
+    ReflectionTestUtils.setField(scheduler, "defaultMaxConcurrency", 12);
+    ReflectionTestUtils.setField(scheduler, "environment", environment);
+    ReflectionTestUtils.setField(scheduler, "meterRegistry", new SimpleMeterRegistry());
+    ReflectionTestUtils.setField(scheduler, "bulkPayoutExecutor", bulkPayoutExecutor);
+    ReflectionTestUtils.setField(scheduler, "bulkPayoutConcurrencyLimiter",
+        new AdaptiveConcurrencyLimiter("bulk", limit, limit, limit, 1.5, 0.2));
+    return scheduler;
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (scheduler != null) {
+      scheduler.stop();
+    }
+    executor.shutdownNow();
+  }
+
+  @Test
+  void rowsStartInDeficitRoundRobinOrderByWeight() {
+    environment.setProperty("payout.fair-share.members.A.weight", "3");
+    ExecutorService serial = Executors.newSingleThreadExecutor();
+    BulkPayoutScheduler scheduler = scheduler(1, serial);
+
+    List<String> started = Collections.synchronizedList(new ArrayList<>());
+    List<CompletableFuture<Void>> rows = new ArrayList<>();
+    for (int i = 0; i < 6; i++) {
+      for (String memberId : List.of("A", "B", "C")) {
+        rows.add(scheduler.submit(memberId, permit -> started.add(memberId)));
+      }
+    }
+    assertEquals(18, scheduler.getQueuedRows());
+
+    scheduler.start();
+    CompletableFuture.allOf(rows.toArray(new CompletableFuture[0])).join();
+    serial.shutdown();
+
+    assertEquals(List.of("A", "A", "A", "B", "C", "A", "A", "A", "B", "C", "B", "C", "B", "C", "B", "C", "B", "C"),
+        started);
+    assertEquals(0, scheduler.getQueuedRows());
+    assertTrue(scheduler.snapshot().isEmpty());
+  }
+
+  @Test
+  void memberAtItsCapDoesNotHoldBackOthers() throws Exception {
+    environment.setProperty("payout.fair-share.members.capped.max-concurrency", "2");
+    BulkPayoutScheduler scheduler = scheduler(8, executor);
+    scheduler.start();
+
+    CountDownLatch gate = new CountDownLatch(1);
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger maxRunning = new AtomicInteger();
+    List<CompletableFuture<Void>> capped = new ArrayList<>();
+    for (int i = 0; i < 6; i++) {
+      capped.add(scheduler.submit("capped", permit -> {
+        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+        try {
+          gate.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        running.decrementAndGet();
+      }));
+    }
+    List<CompletableFuture<Void>> others = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      others.add(scheduler.submit("other", permit -> { }));
+    }
+
+    CompletableFuture.allOf(others.toArray(new CompletableFuture[0])).get(5, TimeUnit.SECONDS);
+    Map<String, Object> cappedState = scheduler.snapshot().get("capped");
+    assertEquals(2, cappedState.get("inFlight"));
+    assertEquals(4, cappedState.get("queued"));
+
+    gate.countDown();
+    CompletableFuture.allOf(capped.toArray(new CompletableFuture[0])).get(5, TimeUnit.SECONDS);
+    assertEquals(2, maxRunning.get());
+  }
+
+  @Test
+  void stopFailsQueuedRows() throws Exception {
+    BulkPayoutScheduler scheduler = scheduler(1, executor);
+    scheduler.start();
+
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch gate = new CountDownLatch(1);
+    CompletableFuture<Void> running = scheduler.submit("A", permit -> {
+      started.countDown();
+      try {
+        gate.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    });
+    assertTrue(started.await(5, TimeUnit.SECONDS));
+    List<CompletableFuture<Void>> queued = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      queued.add(scheduler.submit(i % 2 == 0 ? "A" : "B", permit -> { }));
+    }
+
+    scheduler.stop();
+    for (CompletableFuture<Void> row : queued) {
+      ExecutionException error = assertThrows(ExecutionException.class, () -> row.get(5, TimeUnit.SECONDS));
+      assertInstanceOf(IllegalStateException.class, error.getCause());
+    }
+    assertEquals(0, scheduler.getQueuedRows());
+    CompletionException rejected = assertThrows(CompletionException.class,
+        () -> scheduler.submit("A", permit -> { }).join());
+    assertInstanceOf(IllegalStateException.class, rejected.getCause());
+
+    gate.countDown();
+    running.get(5, TimeUnit.SECONDS);
+  }
+
+  @Test
+  void dispatcherSurvivesRowsThatCannotStart() throws Exception {
+    AtomicBoolean rejectNext = new AtomicBoolean(true);
+    ExecutorService flaky = new AbstractExecutorService() {
+      @Override
+      public void execute(Runnable command) {
+        if (rejectNext.getAndSet(false)) {
+          throw new RejectedExecutionException("saturated");
+        }
+        executor.execute(command);
+      }
+
+      @Override
+      public void shutdown() {
+      }
+
+      @Override
+      public List<Runnable> shutdownNow() {
+        return List.of();
+      }
+
+      @Override
+      public boolean isShutdown() {
+        return false;
+      }
+
+      @Override
+      public boolean isTerminated() {
+        return false;
+      }
+
+      @Override
+      public boolean awaitTermination(long timeout, TimeUnit unit) {
+        return true;
+      }
+    };
+    BulkPayoutScheduler scheduler = scheduler(1, flaky);
+    scheduler.start();
+
+    CompletableFuture<Void> first = scheduler.submit("A", permit -> { });
+    CompletableFuture<Void> second = scheduler.submit("A", permit -> { });
+
+    CompletionException error = assertThrows(CompletionException.class, first::join);
+    assertInstanceOf(RejectedExecutionException.class, error.getCause());
+    second.get(5, TimeUnit.SECONDS);
+    assertTrue(scheduler.snapshot().isEmpty());
+  }
+
+}
@@ -0,0 +1,193 @@
+package com.tektechno.payout.utilities;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.tektechno.payout.projection.RecentPayoutProjection;
+import com.tektechno.payout.repository.SendMoneyHistoryRepo;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class DuplicatePayoutDetectorTest {
+
+  @Mock
+  private SendMoneyHistoryRepo sendMoneyHistoryRepo;
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private DuplicatePayoutDetector detector;
+
+  @BeforeEach
+  void setUp() {
+    detector = new DuplicatePayoutDetector();
+    ReflectionTestUtils.setField(detector, "windowMinutes", 10L);
+    ReflectionTestUtils.setField(detector, "sendMoneyHistoryRepo", sendMoneyHistoryRepo);
+    ReflectionTestUtils.setField(detector, "meterRegistry", meterRegistry);
+    mode(DuplicatePayoutDetector.Mode.FLAG);
+  }
+
+  @Test
+  void flagModeReportsARepeatButLetsItThrough() {
+    DuplicatePayoutDetector.Reservation first = detector.reserve("BEN-1", 500L, "IMPS", "single");
+    DuplicatePayoutDetector.Reservation repeat = detector.reserve("BEN-1", 500L, "IMPS", "single");
+
+    assertNull(first.getPreviousPayoutAt());
+    assertNotNull(repeat.getPreviousPayoutAt());
+    assertFalse(repeat.isBlocked());
+    assertEquals(1.0, meterRegistry.counter("payout.duplicates.detected", "mode", "FLAG", "flow", "single").count());
+  }
+
+  @Test
+  void blockModeRefusesARepeatWithinTheWindow() {
+    mode(DuplicatePayoutDetector.Mode.BLOCK);
+
+    DuplicatePayoutDetector.Reservation first = detector.reserve("BEN-1", 500L, "IMPS", "single");
+    DuplicatePayoutDetector.Reservation repeat = detector.reserve("BEN-1", 500L, "IMPS", "bulk");
+
+    assertFalse(first.isBlocked());
+    assertTrue(repeat.isBlocked());
+    assertEquals(1.0, meterRegistry.counter("payout.duplicates.detected", "mode", "BLOCK", "flow", "bulk").count());
+  }
+
+  @Test
+  void keyIsBeneficiaryAmountAndTransferTypeIgnoringCase() {
+    mode(DuplicatePayoutDetector.Mode.BLOCK);
+    detector.reserve("BEN-1", 500L, "IMPS", "single");
+
+    assertTrue(detector.reserve("BEN-1", 500L, "imps", "single").isBlocked());
+    assertFalse(detector.reserve("BEN-1", 501L, "IMPS", "single").isBlocked());
+    assertFalse(detector.reserve("BEN-1", 500L, "NEFT", "single").isBlocked());
+    assertFalse(detector.reserve("BEN-2", 500L, "IMPS", "single").isBlocked());
+  }
+
+  @Test
+  void releasedPayoutIsForgotten() {
+    mode(DuplicatePayoutDetector.Mode.BLOCK);
+
+    detector.reserve("BEN-1", 500L, "IMPS", "single").release();
+
+    assertFalse(detector.reserve("BEN-1", 500L, "IMPS", "single").isBlocked());
+  }
+
+  @Test
+  void releasingAFlaggedRepeatKeepsTheEarlierPayout() {
+    DuplicatePayoutDetector.Reservation first = detector.reserve("BEN-1", 500L, "IMPS", "single");
+    DuplicatePayoutDetector.Reservation repeat = detector.reserve("BEN-1", 500L, "IMPS", "single");
+
+    repeat.release();
+
+    DuplicatePayoutDetector.Reservation next = detector.reserve("BEN-1", 500L, "IMPS", "single");
+    assertNull(first.getPreviousPayoutAt());
+    assertEquals(repeat.getPreviousPayoutAt(), next.getPreviousPayoutAt());
+  }
+
+  @Test
+  void releasingABlockedPayoutKeepsTheOriginal() {
+    mode(DuplicatePayoutDetector.Mode.BLOCK);
+    detector.reserve("BEN-1", 500L, "IMPS", "single");
+
+    detector.reserve("BEN-1", 500L, "IMPS", "single").release();
+
+    assertTrue(detector.reserve("BEN-1", 500L, "IMPS", "single").isBlocked());
+  }
+
+  @Test
+  void offModeNeverReportsDuplicates() {
+    mode(DuplicatePayoutDetector.Mode.OFF);
+
+    detector.rebuild();
+    detector.reserve("BEN-1", 500L, "IMPS", "single");
+
+    assertNull(detector.reserve("BEN-1", 500L, "IMPS", "single").getPreviousPayoutAt());
+    verifyNoInteractions(sendMoneyHistoryRepo);
+  }
+
+  @Test
+  void rebuildRestoresPayoutsMadeBeforeARestart() {
+    mode(DuplicatePayoutDetector.Mode.BLOCK);
+    Date paidAt = new Date(System.currentTimeMillis() - TimeUnit.MINUTES.toMillis(3));
+    when(sendMoneyHistoryRepo.findPayoutsSince(any(Date.class)))
+        .thenReturn(List.of(payout("BEN-1", 500L, "IMPS", paidAt), payout("BEN-2", 700L, "NEFT", null)));
+
+    detector.rebuild();
+
+    DuplicatePayoutDetector.Reservation repeat = detector.reserve("BEN-1", 500L, "IMPS", "single");
+    assertTrue(repeat.isBlocked());
+    assertEquals(paidAt, repeat.getPreviousPayoutAt());
+    assertFalse(detector.reserve("BEN-2", 700L, "NEFT", "single").isBlocked());
+  }
+
+  @Test
+  void payoutsOlderThanTheWindowAreNotDuplicatesAndGetEvicted() {
+    mode(DuplicatePayoutDetector.Mode.BLOCK);
+    Date paidAt = new Date(System.currentTimeMillis() - TimeUnit.MINUTES.toMillis(15));
+    when(sendMoneyHistoryRepo.findPayoutsSince(any(Date.class)))
+        .thenReturn(List.of(payout("BEN-1", 500L, "IMPS", paidAt)));
+    detector.rebuild();
+
+    detector.evictExpired();
+
+    assertTrue(indexedKeys().isEmpty());
+    assertFalse(detector.reserve("BEN-1", 500L, "IMPS", "single").isBlocked());
+  }
+
+  @Test
+  void evictionKeepsPayoutsInsideTheWindow() {
+    detector.reserve("BEN-1", 500L, "IMPS", "single");
+
+    detector.evictExpired();
+
+    assertEquals(1, indexedKeys().size());
+  }
+
+  private void mode(DuplicatePayoutDetector.Mode mode) {
+    ReflectionTestUtils.setField(detector, "mode", mode);
+  }
+
+  @SuppressWarnings("unchecked")
+  private Map<String, Long> indexedKeys() {
+    return (Map<String, Long>) ReflectionTestUtils.getField(detector, "lastPayoutByKey");
+  }
+
+  private static RecentPayoutProjection payout(String beneficiaryId, Long amount, String transferType,
+                                               Date createdAt) {
+    return new RecentPayoutProjection() {
+      @Override
+      public String getBeneficiaryId() {
+        return beneficiaryId;
+      }
+
+      @Override
+      public Long getAmount() {
+        return amount;
+      }
+
+      @Override
+      public String getTransferType() {
+        return transferType;
+      }
+
+      @Override
+      public Date getCreatedAt() {
+        return createdAt;
+      }
+    };
+  }
+
+}
@@ -0,0 +1,222 @@
+package com.tektechno.payout.utilities;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tektechno.payout.model.IdempotencyRecord;
+import com.tektechno.payout.repository.IdempotencyRecordRepo;
+import com.tektechno.payout.response.BaseResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.security.MessageDigest;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotentRequestHandlerTest {
+
+  private static final String SCOPE = "member-1";
+
+  private static final String KEY = "key-1";
+
+  private static final String RECORD_KEY = SCOPE + ":" + KEY;
+
+  private static final Map<String, Object> REQUEST = Map.of("amount", 100);
+
+  @Mock
+  private IdempotencyRecordRepo idempotencyRecordRepo;
+
+  private IdempotentRequestHandler handler;
+
+  private final AtomicInteger actionCalls = new AtomicInteger();
+
+  @BeforeEach
+  void setUp() {
+    handler = new IdempotentRequestHandler();
+    ReflectionTestUtils.setField(handler, "cacheSize", 100L);
+    ReflectionTestUtils.setField(handler, "ttlHours", 24L);
+    ReflectionTestUtils.setField(handler, "waitTimeoutMillis", 5000L);
+    ReflectionTestUtils.setField(handler, "idempotencyRecordRepo", idempotencyRecordRepo);
+    ReflectionTestUtils.setField(handler, "baseResponse", new BaseResponse());
+    ReflectionTestUtils.setField(handler, "objectMapper", new ObjectMapper().findAndRegisterModules());
+    ReflectionTestUtils.setField(handler, "meterRegistry", new SimpleMeterRegistry());
+    handler.init();
+  }
+
+  @Test
+  void requestWithoutKeySimplyRuns() {
+    ResponseEntity<?> response = handler.execute(SCOPE, null, REQUEST, this::accepted);
+
+    assertEquals(HttpStatus.OK, response.getStatusCode());
+    assertEquals(1, actionCalls.get());
+    verifyNoInteractions(idempotencyRecordRepo);
+  }
+
+  @Test
+  void overlongKeyIsRejected() {
+    ResponseEntity<?> response = handler.execute(SCOPE, "k".repeat(129), REQUEST, this::accepted);
+
+    assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    assertEquals(0, actionCalls.get());
+  }
+
+  @Test
+  void retryIsReplayedWithoutRunningAgain() {
+    when(idempotencyRecordRepo.claim(eq(RECORD_KEY), anyString(), any(Date.class))).thenReturn(1);
+
+    ResponseEntity<?> first = handler.execute(SCOPE, KEY, REQUEST, this::accepted);
+    ResponseEntity<?> retry = handler.execute(SCOPE, KEY, REQUEST, this::accepted);
+
+    assertEquals(HttpStatus.OK, first.getStatusCode());
+    assertEquals(HttpStatus.OK, retry.getStatusCode());
+    assertEquals("{\"orderId\":\"ORD-1\"}", retry.getBody());
+    assertEquals("true", retry.getHeaders().getFirst("Idempotent-Replayed"));
+    assertNull(first.getHeaders().getFirst("Idempotent-Replayed"));
+    assertEquals(1, actionCalls.get());
+    verify(idempotencyRecordRepo, times(1)).claim(eq(RECORD_KEY), anyString(), any(Date.class));
+    verify(idempotencyRecordRepo).complete(eq(RECORD_KEY), eq(200), eq("{\"orderId\":\"ORD-1\"}"), any(Date.class));
+  }
+
+  @Test
+  void keyReusedForADifferentRequestIsRejected() {
+    when(idempotencyRecordRepo.claim(eq(RECORD_KEY), anyString(), any(Date.class))).thenReturn(1);
+    handler.execute(SCOPE, KEY, REQUEST, this::accepted);
+
+    ResponseEntity<?> response = handler.execute(SCOPE, KEY, Map.of("amount", 200), this::accepted);
+
+    assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, response.getStatusCode());
+    assertEquals(1, actionCalls.get());
+  }
+
+  @Test
+  void sameKeyInAnotherScopeRunsSeparately() {
+    when(idempotencyRecordRepo.claim(anyString(), anyString(), any(Date.class))).thenReturn(1);
+
+    handler.execute(SCOPE, KEY, REQUEST, this::accepted);
+    handler.execute("member-2", KEY, REQUEST, this::accepted);
+
+    assertEquals(2, actionCalls.get());
+  }
+
+  @Test
+  void serviceUnavailableReleasesTheKeySoARetryRunsAgain() {
+    when(idempotencyRecordRepo.claim(eq(RECORD_KEY), anyString(), any(Date.class))).thenReturn(1);
+
+    ResponseEntity<?> first = handler.execute(SCOPE, KEY, REQUEST, () -> {
+      actionCalls.incrementAndGet();
+      return new BaseResponse().errorResponse(HttpStatus.SERVICE_UNAVAILABLE, "Cyrus unavailable");
+    });
+    ResponseEntity<?> retry = handler.execute(SCOPE, KEY, REQUEST, this::accepted);
+
+    assertEquals(HttpStatus.SERVICE_UNAVAILABLE, first.getStatusCode());
+    assertEquals(HttpStatus.OK, retry.getStatusCode());
+    assertEquals(2, actionCalls.get());
+    verify(idempotencyRecordRepo).release(RECORD_KEY);
+    verify(idempotencyRecordRepo, times(1)).complete(eq(RECORD_KEY), anyInt(), anyString(), any(Date.class));
+  }
+
+  @Test
+  void failingActionReleasesTheKey() {
+    when(idempotencyRecordRepo.claim(eq(RECORD_KEY), anyString(), any(Date.class))).thenReturn(1);
+
+    assertThrows(IllegalStateException.class, () -> handler.execute(SCOPE, KEY, REQUEST, () -> {
+      throw new IllegalStateException("boom");
+    }));
+
+    verify(idempotencyRecordRepo).release(RECORD_KEY);
+    verify(idempotencyRecordRepo, never()).complete(anyString(), anyInt(), anyString(), any(Date.class));
+  }
+
+  @Test
+  void responseCompletedOnAnotherNodeIsReplayed() throws Exception {
+    IdempotencyRecord record = new IdempotencyRecord();
+    record.setIdempotencyKey(RECORD_KEY);
+    record.setRequestHash(hash(REQUEST));
+    record.setResponseStatus(200);
+    record.setResponseBody("{\"orderId\":\"ORD-9\"}");
+    record.setCompletedAt(new Date());
+    when(idempotencyRecordRepo.claim(eq(RECORD_KEY), anyString(), any(Date.class))).thenReturn(0);
+    when(idempotencyRecordRepo.findByIdempotencyKey(RECORD_KEY)).thenReturn(Optional.of(record));
+
+    ResponseEntity<?> response = handler.execute(SCOPE, KEY, REQUEST, this::accepted);
+
+    assertEquals(HttpStatus.OK, response.getStatusCode());
+    assertEquals("{\"orderId\":\"ORD-9\"}", response.getBody());
+    assertEquals(0, actionCalls.get());
+  }
+
+  @Test
+  void duplicateArrivingWhileTheOriginalRunsWaitsForItsResponse() throws Exception {
+    when(idempotencyRecordRepo.claim(eq(RECORD_KEY), anyString(), any(Date.class))).thenReturn(1);
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch finish = new CountDownLatch(1);
+    AtomicReference<ResponseEntity<?>> original = new AtomicReference<>();
+    AtomicReference<ResponseEntity<?>> duplicate = new AtomicReference<>();
+
+    Thread originalThread = new Thread(() -> original.set(handler.execute(SCOPE, KEY, REQUEST, () -> {
+      started.countDown();
+      try {
+        finish.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return accepted();
+    })));
+    originalThread.start();
+    assertTrue(started.await(5, TimeUnit.SECONDS));
+
+    Thread duplicateThread = new Thread(() -> duplicate.set(handler.execute(SCOPE, KEY, REQUEST, this::accepted)));
+    duplicateThread.start();
+    long deadline = System.currentTimeMillis() + 5000;
+    while (duplicateThread.getState() != Thread.State.TIMED_WAITING && System.currentTimeMillis() < deadline) {
+      Thread.sleep(5);
+    }
+    assertEquals(Thread.State.TIMED_WAITING, duplicateThread.getState());
+
+    finish.countDown();
+    originalThread.join(5000);
+    duplicateThread.join(5000);
+
+    assertEquals(HttpStatus.OK, original.get().getStatusCode());
+    assertEquals(HttpStatus.OK, duplicate.get().getStatusCode());
+    assertEquals("{\"orderId\":\"ORD-1\"}", duplicate.get().getBody());
+    assertEquals(1, actionCalls.get());
+    verify(idempotencyRecordRepo, times(1)).claim(eq(RECORD_KEY), anyString(), any(Date.class));
+  }
+
+  private ResponseEntity<?> accepted() {
+    actionCalls.incrementAndGet();
+    return ResponseEntity.ok(Map.of("orderId", "ORD-1"));
+  }
+
+  private String hash(Object request) throws Exception {
+    byte[] json = new ObjectMapper().writeValueAsBytes(request);
+    return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(json));
+  }
+
+}
@@ -0,0 +1,122 @@
+package com.tektechno.payout.utilities;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class SingleFlightTest {
+
+  private final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+
+  @Test
+  void concurrentCallersForTheSameKeyShareOneCall() throws Exception {
+    AtomicInteger calls = new AtomicInteger();
+    CompletableFuture<String> underlying = new CompletableFuture<>();
+
+    SingleFlight.Call<String> leader = singleFlight.execute("key", () -> {
+      calls.incrementAndGet();
+      return underlying;
+    });
+    SingleFlight.Call<String> follower = singleFlight.execute("key", () -> {
+      calls.incrementAndGet();
+      return new CompletableFuture<>();
+    });
+
+    assertFalse(leader.joined());
+    assertTrue(follower.joined());
+    assertEquals(1, calls.get());
+    assertEquals(1, singleFlight.inFlightCount());
+
+    underlying.complete("value");
+    assertEquals("value", leader.future().get());
+    assertEquals("value", follower.future().get());
+    assertEquals(0, singleFlight.inFlightCount());
+  }
+
+  @Test
+  void failureIsDeliveredToEveryCaller() {
+    CompletableFuture<String> underlying = new CompletableFuture<>();
+    SingleFlight.Call<String> leader = singleFlight.execute("key", () -> underlying);
+    SingleFlight.Call<String> follower = singleFlight.execute("key", CompletableFuture::new);
+
+    IllegalStateException failure = new IllegalStateException("cyrus down");
+    underlying.completeExceptionally(failure);
+
+    assertSame(failure, assertThrows(ExecutionException.class, () -> leader.future().get()).getCause());
+    assertSame(failure, assertThrows(ExecutionException.class, () -> follower.future().get()).getCause());
+    assertEquals(0, singleFlight.inFlightCount());
+  }
+
+  @Test
+  void callerArrivingAfterCompletionStartsAFreshCall() throws Exception {
+    singleFlight.execute("key", () -> CompletableFuture.completedFuture("first"));
+
+    SingleFlight.Call<String> next = singleFlight.execute("key", () -> CompletableFuture.completedFuture("second"));
+
+    assertFalse(next.joined());
+    assertEquals("second", next.future().get());
+  }
+
+  @Test
+  void keyIsReleasedBeforeTheResultIsPublished() throws Exception {
+    CompletableFuture<String> underlying = new CompletableFuture<>();
+    SingleFlight.Call<String> leader = singleFlight.execute("key", () -> underlying);
+    CompletableFuture<Boolean> joinedFromCallback = leader.future()
+        .thenApply(value -> singleFlight.execute("key", () -> CompletableFuture.completedFuture("fresh")).joined());
+
+    underlying.complete("value");
+
+    assertFalse(joinedFromCallback.get());
+  }
+
+  @Test
+  void supplierThatThrowsFailsTheCallAndReleasesTheKey() {
+    IllegalArgumentException failure = new IllegalArgumentException("bad request");
+
+    SingleFlight.Call<String> call = singleFlight.execute("key", () -> {
+      throw failure;
+    });
+
+    assertSame(failure, assertThrows(ExecutionException.class, () -> call.future().get()).getCause());
+    assertEquals(0, singleFlight.inFlightCount());
+  }
+
+  @Test
+  void cancellingOneCallerDoesNotCancelTheSharedCall() throws Exception {
+    CompletableFuture<String> underlying = new CompletableFuture<>();
+    SingleFlight.Call<String> leader = singleFlight.execute("key", () -> underlying);
+    SingleFlight.Call<String> follower = singleFlight.execute("key", CompletableFuture::new);
+
+    follower.future().cancel(true);
+    underlying.complete("value");
+
+    assertTrue(follower.future().isCancelled());
+    assertEquals("value", leader.future().get());
+  }
+
+  @Test
+  void differentKeysRunIndependently() {
+    AtomicInteger calls = new AtomicInteger();
+
+    singleFlight.execute("a", () -> {
+      calls.incrementAndGet();
+      return new CompletableFuture<>();
+    });
+    SingleFlight.Call<String> other = singleFlight.execute("b", () -> {
+      calls.incrementAndGet();
+      return new CompletableFuture<>();
+    });
+
+    assertFalse(other.joined());
+    assertEquals(2, calls.get());
+    assertEquals(2, singleFlight.inFlightCount());
+  }
+
+}